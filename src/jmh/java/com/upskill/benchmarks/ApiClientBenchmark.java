@@ -0,0 +1,66 @@
+package com.upskill.benchmarks;
+
+import com.upskill.api.ApiClient;
+import com.upskill.config.ConfigManager;
+import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ApiClient end to end against an in-process HTTP stub: building a request (no send), and
+ * GET/POST round trips including response capture and metrics.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ApiClientBenchmark {
+
+    private static final String NEW_POST = "{\"userId\":1,\"title\":\"Automation Test Post\",\"body\":\"Created by a benchmark\"}";
+
+    private LocalApiStub stub;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        BenchmarkLogging.quiet();
+        stub = LocalApiStub.start();
+        System.setProperty("api.base.url", stub.baseUrl());
+        ConfigManager.reload();
+        ApiClient.get("/users/1");  // pool, specs and REST Assured initialized outside the measurement
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        stub.stop();
+    }
+
+    @Benchmark
+    public RequestSpecification buildRequest() {
+        return ApiClient.getRequestSpec()
+                .queryParam("userId", 1)
+                .body(NEW_POST);
+    }
+
+    @Benchmark
+    public int getSingleUser() {
+        Response response = ApiClient.get("/users/1");
+        return response.getStatusCode();
+    }
+
+    @Benchmark
+    public int getPostList() {
+        Response response = ApiClient.get("/posts");
+        return response.getStatusCode();
+    }
+
+    @Benchmark
+    public int createPost() {
+        Response response = ApiClient.post("/posts", NEW_POST);
+        return response.getStatusCode();
+    }
+}
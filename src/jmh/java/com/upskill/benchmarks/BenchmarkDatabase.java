@@ -0,0 +1,71 @@
+package com.upskill.benchmarks;
+
+import com.upskill.config.ConfigManager;
+import com.upskill.db.DatabaseUtil;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+
+/**
+ * Database setup shared by the DB benchmarks.
+ *
+ * Uses an in-memory H2 database as a stand-in for PostgreSQL unless db.url is passed to the
+ * benchmark JVM, and fills a bench_rows table (id, user_id, name, email, score, created).
+ */
+final class BenchmarkDatabase {
+
+    static final String TABLE = "bench_rows";
+
+    private BenchmarkDatabase() {}
+
+    static void useEmbeddedDatabaseUnlessConfigured() {
+        if (System.getProperty("db.url") == null) {
+            System.setProperty("db.url", "jdbc:h2:mem:bench;DB_CLOSE_DELAY=-1;LAZY_QUERY_EXECUTION=1");
+            System.setProperty("db.username", "sa");
+            System.setProperty("db.password", "");
+            System.setProperty("db.driver", "org.h2.Driver");
+        }
+        ConfigManager.reload();
+    }
+
+    /**
+     * Make sure bench_rows holds exactly the requested number of rows.
+     */
+    static void ensureRows(int rows) throws SQLException {
+        Connection conn = DatabaseUtil.getConnection();
+        if (conn == null) throw new IllegalStateException("Benchmark database not reachable");
+        try (Statement stmt = conn.createStatement()) {
+            stmt.execute("CREATE TABLE IF NOT EXISTS " + TABLE + " (id BIGINT PRIMARY KEY, user_id INT, "
+                    + "name VARCHAR(64), email VARCHAR(128), score DOUBLE PRECISION, created TIMESTAMP)");
+            try (ResultSet rs = stmt.executeQuery("SELECT COUNT(*) FROM " + TABLE)) {
+                rs.next();
+                if (rs.getLong(1) == rows) return;
+            }
+            stmt.execute("DELETE FROM " + TABLE);
+        }
+
+        boolean autoCommit = conn.getAutoCommit();
+        conn.setAutoCommit(false);
+        try (PreparedStatement insert = conn.prepareStatement("INSERT INTO " + TABLE + " VALUES (?, ?, ?, ?, ?, ?)")) {
+            Timestamp now = new Timestamp(System.currentTimeMillis());
+            for (int i = 1; i <= rows; i++) {
+                insert.setLong(1, i);
+                insert.setInt(2, i % 1000);
+                insert.setString(3, "User " + i);
+                insert.setString(4, "user" + i + "@test.com");
+                insert.setDouble(5, i * 0.5);
+                insert.setTimestamp(6, now);
+                insert.addBatch();
+                if (i % 10_000 == 0) insert.executeBatch();
+            }
+            insert.executeBatch();
+            conn.commit();
+        } finally {
+            conn.setAutoCommit(autoCommit);
+        }
+    }
+}
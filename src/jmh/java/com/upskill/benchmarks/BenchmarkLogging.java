@@ -0,0 +1,19 @@
+package com.upskill.benchmarks;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Turns framework logging down to WARN inside a benchmark fork, so per-request log lines
+ * (console and target/logs) don't dominate what is being measured.
+ */
+final class BenchmarkLogging {
+
+    private BenchmarkLogging() {}
+
+    static void quiet() {
+        ((Logger) LoggerFactory.getLogger("com.upskill")).setLevel(Level.WARN);
+        ((Logger) LoggerFactory.getLogger(Logger.ROOT_LOGGER_NAME)).setLevel(Level.WARN);
+    }
+}
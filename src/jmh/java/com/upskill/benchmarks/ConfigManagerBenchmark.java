@@ -0,0 +1,41 @@
+package com.upskill.benchmarks;
+
+import com.upskill.config.ConfigManager;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ConfigManager lookups from 8 threads at once, as in a parallel run where every request
+ * reads timeouts and URLs.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(8)
+@State(Scope.Benchmark)
+public class ConfigManagerBenchmark {
+
+    @Setup
+    public void setUp() {
+        BenchmarkLogging.quiet();
+        ConfigManager.get("api.base.url");
+    }
+
+    @Benchmark
+    public String getString() {
+        return ConfigManager.get("api.base.url");
+    }
+
+    @Benchmark
+    public String getWithDefault() {
+        return ConfigManager.get("api.missing.key", "fallback");
+    }
+
+    @Benchmark
+    public int getInt() {
+        return ConfigManager.getInt("api.pool.max.total", 50);
+    }
+}
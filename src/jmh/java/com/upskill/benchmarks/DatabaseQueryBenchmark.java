@@ -0,0 +1,59 @@
+package com.upskill.benchmarks;
+
+import com.upskill.db.DatabaseUtil;
+import com.upskill.db.QueryResult;
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * DatabaseUtil as the DB steps use it: small parameterized SELECTs mapped into rows, and
+ * single-value lookups, against the benchmark database (H2 unless db.url is given).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DatabaseQueryBenchmark {
+
+    private static final String RANGE = "SELECT * FROM " + BenchmarkDatabase.TABLE + " WHERE id BETWEEN ? AND ?";
+    private static final String BY_ID = "SELECT email FROM " + BenchmarkDatabase.TABLE + " WHERE id = ?";
+
+    @Param({"1", "100"})
+    public int rowsPerQuery;
+
+    private long next;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        BenchmarkLogging.quiet();
+        BenchmarkDatabase.useEmbeddedDatabaseUnlessConfigured();
+        BenchmarkDatabase.ensureRows(100_000);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        DatabaseUtil.closeConnection();
+        DatabaseUtil.shutdown();
+    }
+
+    @Benchmark
+    public int executeQuery() {
+        long from = nextId();
+        QueryResult rows = DatabaseUtil.executeQuery(RANGE, from, from + rowsPerQuery - 1);
+        return rows.size();
+    }
+
+    @Benchmark
+    public Object getSingleValue() {
+        return DatabaseUtil.getSingleValue(BY_ID, nextId());
+    }
+
+    private long nextId() {
+        next = (next + 7919) % (100_000 - 100);
+        return next + 1;
+    }
+}
@@ -0,0 +1,65 @@
+package com.upskill.benchmarks;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.eclipse.jetty.http2.server.HTTP2CServerConnectionFactory;
+import org.eclipse.jetty.io.ConnectionStatistics;
+import org.eclipse.jetty.server.HttpConfiguration;
+import org.eclipse.jetty.server.HttpConnectionFactory;
+import org.eclipse.jetty.server.Request;
+import org.eclipse.jetty.server.Server;
+import org.eclipse.jetty.server.ServerConnector;
+import org.eclipse.jetty.server.handler.AbstractHandler;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Jetty on loopback speaking HTTP/1.1 and h2c (cleartext HTTP/2, via upgrade) on one port.
+ * Every request gets {@link LocalApiStub#USER}. Counts the TCP connections clients opened.
+ */
+class H2cStub {
+
+    private final Server server = new Server();
+    private final ServerConnector connector;
+    private final ConnectionStatistics connections = new ConnectionStatistics();
+
+    private H2cStub() {
+        HttpConfiguration config = new HttpConfiguration();
+        connector = new ServerConnector(server, new HttpConnectionFactory(config), new HTTP2CServerConnectionFactory(config));
+        connector.setHost("127.0.0.1");
+        connector.setPort(0);
+        connector.addBean(connections);
+        server.addConnector(connector);
+        byte[] user = LocalApiStub.USER.getBytes(StandardCharsets.UTF_8);
+        server.setHandler(new AbstractHandler() {
+            @Override
+            public void handle(String target, Request base, HttpServletRequest request, HttpServletResponse response) throws IOException {
+                request.getInputStream().readAllBytes();
+                response.setStatus(200);
+                response.setContentType("application/json");
+                response.setContentLength(user.length);
+                response.getOutputStream().write(user);
+                base.setHandled(true);
+            }
+        });
+    }
+
+    static H2cStub start() throws Exception {
+        H2cStub stub = new H2cStub();
+        stub.server.start();
+        return stub;
+    }
+
+    String baseUrl() {
+        return "http://127.0.0.1:" + connector.getLocalPort();
+    }
+
+    long connectionsOpened() {
+        return connections.getConnectionsTotal();
+    }
+
+    void stop() throws Exception {
+        server.stop();
+    }
+}
@@ -0,0 +1,67 @@
+package com.upskill.benchmarks;
+
+import com.upskill.utils.ArrayRules;
+import com.upskill.utils.JsonUtils;
+import com.upskill.utils.ResponseDocument;
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.response.Response;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * "Each comment should have fields ..." plus "all postId values should be 1" on a large
+ * array: materializing the list of maps and looping (the old steps) versus one streaming
+ * pass with JsonUtils.checkArray. The [peak-heap] line shows the heap each approach needed
+ * on top of the response body itself.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+@State(Scope.Benchmark)
+public class JsonArrayCheckBenchmark {
+
+    private static final String COMMENT = "{\"postId\":1,\"id\":1,\"name\":\"id labore ex et quam laborum\","
+            + "\"email\":\"Eliseo@gardner.biz\",\"body\":\"laudantium enim quasi est quidem magnam voluptate ipsam eos\"}";
+
+    @Param({"1000", "50000"})
+    public int items;
+
+    private Response comments;
+
+    @Setup
+    public void setUp() {
+        comments = new ResponseBuilder()
+                .setStatusCode(200)
+                .setContentType("application/json")
+                .setBody(LocalApiStub.list(COMMENT, items))
+                .build();
+        comments.asByteArray();
+    }
+
+    @Benchmark
+    public int materialized(PeakHeap heap) {
+        List<Map<String, Object>> list = ResponseDocument.of(comments).getList("$");
+        for (Map<String, Object> item : list) {
+            for (String field : new String[]{"id", "postId", "name", "email", "body"}) {
+                if (item.get(field) == null) throw new AssertionError("Missing: " + field);
+            }
+            if (((Number) item.get("postId")).intValue() != 1) throw new AssertionError("postId mismatch");
+        }
+        heap.record();
+        return list.size();
+    }
+
+    @Benchmark
+    public int streamed(PeakHeap heap) {
+        int checked = JsonUtils.checkArray(comments, ArrayRules.create()
+                .requireFields("id", "postId", "name", "email", "body")
+                .fieldEquals("postId", 1)).getElementsChecked();
+        heap.record();
+        return checked;
+    }
+}
@@ -0,0 +1,50 @@
+package com.upskill.benchmarks;
+
+import com.upskill.models.Post;
+import com.upskill.models.User;
+import com.upskill.utils.JsonUtils;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JsonUtils.toJson / fromJson for the User and Post models.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JsonBenchmark {
+
+    private User user;
+    private Post post;
+
+    @Setup
+    public void setUp() {
+        BenchmarkLogging.quiet();
+        user = JsonUtils.fromJson(LocalApiStub.USER, User.class);
+        post = JsonUtils.fromJson(LocalApiStub.POST, Post.class);
+    }
+
+    @Benchmark
+    public String userToJson() {
+        return JsonUtils.toJson(user);
+    }
+
+    @Benchmark
+    public User userFromJson() {
+        return JsonUtils.fromJson(LocalApiStub.USER, User.class);
+    }
+
+    @Benchmark
+    public String postToJson() {
+        return JsonUtils.toJson(post);
+    }
+
+    @Benchmark
+    public Post postFromJson() {
+        return JsonUtils.fromJson(LocalApiStub.POST, Post.class);
+    }
+}
@@ -0,0 +1,59 @@
+package com.upskill.benchmarks;
+
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.response.Response;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Field and list extraction the way ApiSteps does it: response.jsonPath() per assertion,
+ * on a single user and on a 100-post list. Responses are built in memory, no HTTP.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JsonPathBenchmark {
+
+    private Response user;
+    private Response posts;
+
+    @Setup
+    public void setUp() {
+        user = json(LocalApiStub.USER);
+        posts = json(LocalApiStub.list(LocalApiStub.POST, 100));
+    }
+
+    @Benchmark
+    public String singleField() {
+        return user.jsonPath().getString("name");
+    }
+
+    @Benchmark
+    public int listRoot() {
+        List<?> list = posts.jsonPath().getList("$");
+        return list.size();
+    }
+
+    @Benchmark
+    public List<Integer> listProjection() {
+        return posts.jsonPath().getList("userId", Integer.class);
+    }
+
+    @Benchmark
+    public String firstElementField() {
+        return posts.jsonPath().getString("[0].title");
+    }
+
+    private static Response json(String body) {
+        return new ResponseBuilder()
+                .setStatusCode(200)
+                .setContentType("application/json")
+                .setBody(body)
+                .build();
+    }
+}
@@ -0,0 +1,100 @@
+package com.upskill.benchmarks;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * In-process HTTP stub serving JSONPlaceholder-shaped responses, so API benchmarks measure
+ * the framework rather than the network:
+ *   GET /users, /users/{id}, /posts, /posts/{id}   canned JSON
+ *   POST /posts                                     201 with the request body plus an id
+ */
+final class LocalApiStub {
+
+    static final String USER = "{\"id\":1,\"name\":\"Leanne Graham\",\"username\":\"Bret\","
+            + "\"email\":\"Sincere@april.biz\",\"phone\":\"1-770-736-8031 x56442\",\"website\":\"hildegard.org\"}";
+    static final String POST = "{\"userId\":1,\"id\":1,\"title\":\"sunt aut facere repellat provident\","
+            + "\"body\":\"quia et suscipit suscipit recusandae consequuntur expedita et cum\"}";
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+
+    private LocalApiStub(HttpServer server, ExecutorService executor) {
+        this.server = server;
+        this.executor = executor;
+    }
+
+    static LocalApiStub start() throws IOException {
+        // Without TCP_NODELAY, small responses wait on delayed ACKs (~40 ms per request)
+        System.setProperty("sun.net.httpserver.nodelay", "true");
+        HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 128);
+        ExecutorService executor = Executors.newFixedThreadPool(8, r -> {
+            Thread t = new Thread(r, "api-stub");
+            t.setDaemon(true);
+            return t;
+        });
+        byte[] users = list(USER, 10).getBytes(StandardCharsets.UTF_8);
+        byte[] user = USER.getBytes(StandardCharsets.UTF_8);
+        byte[] posts = list(POST, 100).getBytes(StandardCharsets.UTF_8);
+        byte[] post = POST.getBytes(StandardCharsets.UTF_8);
+
+        server.createContext("/", exchange -> {
+            String path = exchange.getRequestURI().getPath();
+            if (exchange.getRequestMethod().equals("POST")) {
+                String body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+                respond(exchange, 201, body.replaceFirst("}\\s*$", ",\"id\":101}").getBytes(StandardCharsets.UTF_8));
+            } else if (path.equals("/users")) {
+                respond(exchange, 200, users);
+            } else if (path.startsWith("/users/")) {
+                respond(exchange, 200, user);
+            } else if (path.equals("/posts")) {
+                respond(exchange, 200, posts);
+            } else if (path.startsWith("/posts/")) {
+                respond(exchange, 200, post);
+            } else {
+                respond(exchange, 404, "{}".getBytes(StandardCharsets.UTF_8));
+            }
+        });
+        server.setExecutor(executor);
+        server.start();
+        return new LocalApiStub(server, executor);
+    }
+
+    String baseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    void stop() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    /**
+     * JSON array of n copies of an object, with ids 1..n.
+     */
+    static String list(String item, int n) {
+        StringBuilder json = new StringBuilder("[");
+        for (int i = 1; i <= n; i++) {
+            if (i > 1) json.append(',');
+            json.append(item.replaceFirst("\"id\":1", "\"id\":" + i));
+        }
+        return json.append(']').toString();
+    }
+
+    private static void respond(HttpExchange exchange, int status, byte[] body) throws IOException {
+        exchange.getRequestBody().close();
+        exchange.getResponseHeaders().add("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.upskill.benchmarks;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.upskill.config.ConfigManager;
+import com.upskill.models.Post;
+import com.upskill.models.User;
+import com.upskill.utils.JsonUtils;
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.response.Response;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Model deserialization the old way (ObjectMapper.readValue from a String, type resolved per
+ * call, body copied to a String first) versus JsonUtils' cached per-type readers reading bytes.
+ * Run with blackbird=true to measure the optional Blackbird module on top.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ModelMappingBenchmark {
+
+    private static final TypeReference<List<Post>> POST_LIST = new TypeReference<>() {};
+
+    @Param({"false", "true"})
+    public boolean blackbird;
+
+    private final ObjectMapper plainMapper = new ObjectMapper();
+    private byte[] userBytes;
+    private Response postsResponse;
+
+    @Setup
+    public void setUp() {
+        BenchmarkLogging.quiet();
+        // Must happen before JsonUtils is first used in this fork: the mapper is built once
+        System.setProperty("json.blackbird.enabled", String.valueOf(blackbird));
+        ConfigManager.reload();
+        userBytes = LocalApiStub.USER.getBytes(StandardCharsets.UTF_8);
+        postsResponse = new ResponseBuilder()
+                .setStatusCode(200)
+                .setContentType("application/json")
+                .setBody(LocalApiStub.list(LocalApiStub.POST, 100))
+                .build();
+        postsResponse.asByteArray();
+    }
+
+    @Benchmark
+    public User userFromStringPerCallType() throws Exception {
+        return plainMapper.readValue(new String(userBytes, StandardCharsets.UTF_8), User.class);
+    }
+
+    @Benchmark
+    public User userFromBytesCachedReader() {
+        return JsonUtils.fromJson(userBytes, User.class);
+    }
+
+    @Benchmark
+    public List<Post> postListFromResponseString() throws Exception {
+        return plainMapper.readValue(postsResponse.asString(), POST_LIST);
+    }
+
+    @Benchmark
+    public List<Post> postListFromResponseBytes() {
+        return JsonUtils.listFromResponse(postsResponse, Post.class);
+    }
+
+    @Benchmark
+    public byte[] postListToBytes() {
+        return JsonUtils.toJsonBytes(JsonUtils.listFromResponse(postsResponse, Post.class));
+    }
+}
@@ -0,0 +1,48 @@
+package com.upskill.benchmarks;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.BenchmarkParams;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+
+/**
+ * Tracks how far heap usage rises above the post-GC baseline while a benchmark op runs,
+ * so data already resident (e.g. an embedded database) is not counted. The largest value
+ * seen across iterations is printed at the end of the trial.
+ * Call {@link #record()} at the end of the benchmark method.
+ */
+@State(Scope.Thread)
+public class PeakHeap {
+
+    private long baselineBytes;
+    private long maxAboveBaselineBytes;
+
+    @Setup(Level.Iteration)
+    public void reset() {
+        System.gc();
+        baselineBytes = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) pool.resetPeakUsage();
+        }
+    }
+
+    public void record() {
+        long peak = 0;
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) peak += pool.getPeakUsage().getUsed();
+        }
+        maxAboveBaselineBytes = Math.max(maxAboveBaselineBytes, peak - baselineBytes);
+    }
+
+    @TearDown(Level.Trial)
+    public void report(BenchmarkParams params) {
+        System.out.printf("%n[peak-heap] %s: %.1f MB above baseline%n",
+                params.getBenchmark(), maxAboveBaselineBytes / (1024.0 * 1024.0));
+    }
+}
@@ -0,0 +1,80 @@
+package com.upskill.benchmarks;
+
+import com.upskill.db.DatabaseUtil;
+import com.upskill.db.QueryResult;
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Row mapping for DatabaseUtil.executeQuery: the original representation (one LinkedHashMap
+ * per row) versus QueryResult (shared header, primitive columns). Both read the same result
+ * set; the [retained-heap] line printed per benchmark shows how much memory the result keeps.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+@State(Scope.Benchmark)
+public class QueryResultBenchmark {
+
+    private static final String SQL = "SELECT * FROM " + BenchmarkDatabase.TABLE + " WHERE id <= ?";
+
+    @Param("200000")
+    public int rows;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        BenchmarkDatabase.useEmbeddedDatabaseUnlessConfigured();
+        BenchmarkDatabase.ensureRows(rows);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        DatabaseUtil.closeConnection();
+        DatabaseUtil.shutdown();
+    }
+
+    @Benchmark
+    public int linkedHashMapRows(RetainedHeap heap) throws SQLException {
+        List<Map<String, Object>> result = new ArrayList<>();
+        try (PreparedStatement stmt = DatabaseUtil.getConnection().prepareStatement(SQL)) {
+            stmt.setInt(1, rows);
+            try (ResultSet rs = stmt.executeQuery()) {
+                ResultSetMetaData meta = rs.getMetaData();
+                int columnCount = meta.getColumnCount();
+                while (rs.next()) {
+                    Map<String, Object> row = new LinkedHashMap<>();
+                    for (int i = 1; i <= columnCount; i++) {
+                        row.put(meta.getColumnName(i), rs.getObject(i));
+                    }
+                    result.add(row);
+                }
+            }
+        }
+        heap.retain(result);
+        return result.size();
+    }
+
+    @Benchmark
+    public int queryResult(RetainedHeap heap) throws SQLException {
+        QueryResult result;
+        try (PreparedStatement stmt = DatabaseUtil.getConnection().prepareStatement(SQL)) {
+            stmt.setInt(1, rows);
+            try (ResultSet rs = stmt.executeQuery()) {
+                result = QueryResult.from(rs);
+            }
+        }
+        heap.retain(result);
+        return result.size();
+    }
+}
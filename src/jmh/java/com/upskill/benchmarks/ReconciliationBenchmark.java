@@ -0,0 +1,80 @@
+package com.upskill.benchmarks;
+
+import com.upskill.db.DatabaseUtil;
+import com.upskill.db.Reconciliation;
+import com.upskill.db.ReconciliationResult;
+import com.upskill.utils.JsonUtils;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Checking a whole API collection against its table: one SELECT per field per record, as
+ * DatabaseSteps.validateFieldAgainstDb does, versus Reconciliation (streamed JSON, one
+ * streaming query, hash join). The embedded H2 answers a query in microseconds; against a
+ * networked PostgreSQL every per-field query also pays a round trip.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx1g")
+@State(Scope.Benchmark)
+public class ReconciliationBenchmark {
+
+    private static final List<String> FIELDS = List.of("name", "email", "user_id");
+
+    @Param({"1000", "200000"})
+    public int records;
+
+    private byte[] apiBody;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        BenchmarkLogging.quiet();
+        BenchmarkDatabase.useEmbeddedDatabaseUnlessConfigured();
+        BenchmarkDatabase.ensureRows(records);
+        StringBuilder json = new StringBuilder(records * 90).append('[');
+        for (int i = 1; i <= records; i++) {
+            if (i > 1) json.append(',');
+            json.append("{\"id\":").append(i).append(",\"name\":\"User ").append(i)
+                    .append("\",\"email\":\"user").append(i).append("@test.com\",\"user_id\":").append(i % 1000)
+                    .append(",\"address\":{\"city\":\"Gwenborough\",\"zipcode\":\"92998-3874\"}}");
+        }
+        apiBody = json.append(']').toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        DatabaseUtil.closeConnection();
+        DatabaseUtil.shutdown();
+    }
+
+    @Benchmark
+    public int perFieldQueries(PeakHeap heap) {
+        @SuppressWarnings("unchecked")
+        List<Map<String, Object>> api = (List<Map<String, Object>>) (List<?>) JsonUtils.listFromJson(apiBody, Map.class);
+        int mismatches = 0;
+        for (Map<String, Object> record : api) {
+            for (String field : FIELDS) {
+                Object db = DatabaseUtil.getSingleValue("SELECT " + field + " FROM " + BenchmarkDatabase.TABLE + " WHERE id = ?", record.get("id"));
+                if (!Objects.equals(String.valueOf(db), String.valueOf(record.get(field)))) mismatches++;
+            }
+        }
+        heap.record();
+        return mismatches;
+    }
+
+    @Benchmark
+    public long reconcile(PeakHeap heap) {
+        ReconciliationResult result = Reconciliation.reconcile(apiBody, BenchmarkDatabase.TABLE, "id", FIELDS);
+        if (!result.isConsistent()) throw new IllegalStateException(result.summary());
+        heap.record();
+        return result.getMatched();
+    }
+}
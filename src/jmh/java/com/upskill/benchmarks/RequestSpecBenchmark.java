@@ -0,0 +1,45 @@
+package com.upskill.benchmarks;
+
+import com.upskill.api.ApiClient;
+import com.upskill.config.ConfigManager;
+import io.qameta.allure.restassured.AllureRestAssured;
+import io.restassured.RestAssured;
+import io.restassured.http.ContentType;
+import io.restassured.specification.RequestSpecification;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request setup cost: building a spec from scratch (the old ApiClient.getRequestSpec)
+ * versus deriving one from the prebuilt base spec in RequestSpecRegistry. No request is sent.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RequestSpecBenchmark {
+
+    @Setup
+    public void setUp() {
+        // Force one-time initialization outside the measured region
+        ApiClient.getRequestSpec();
+    }
+
+    @Benchmark
+    public RequestSpecification buildFromScratch() {
+        return RestAssured.given()
+                .baseUri(ConfigManager.get("api.base.url"))
+                .contentType(ContentType.JSON)
+                .accept(ContentType.JSON)
+                .filter(new AllureRestAssured())
+                .log().all();
+    }
+
+    @Benchmark
+    public RequestSpecification deriveFromRegistry() {
+        return ApiClient.getRequestSpec();
+    }
+}
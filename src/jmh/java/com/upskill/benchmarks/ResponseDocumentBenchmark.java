@@ -0,0 +1,67 @@
+package com.upskill.benchmarks;
+
+import com.upskill.utils.ResponseDocument;
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.response.Response;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A scenario's worth of assertions on one list response: status-style list checks, a
+ * per-item field check, a projection and a first-element lookup. "jsonPathPerAssertion" is
+ * what ApiSteps did before (response.jsonPath() per step); "parsedOnce" is
+ * TestContext.getDocument(), which parses the body once per response.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ResponseDocumentBenchmark {
+
+    @Param({"100", "5000"})
+    public int items;
+
+    private Response posts;
+
+    @Setup
+    public void setUp() {
+        posts = new ResponseBuilder()
+                .setStatusCode(200)
+                .setContentType("application/json")
+                .setBody(LocalApiStub.list(LocalApiStub.POST, items))
+                .build();
+    }
+
+    @Benchmark
+    public void jsonPathPerAssertion(Blackhole bh) {
+        bh.consume(posts.jsonPath().getList("$").isEmpty());
+        bh.consume(posts.jsonPath().getList("$").size());
+        List<Map<String, Object>> rows = posts.jsonPath().getList("$");
+        for (Map<String, Object> row : rows) {
+            bh.consume(row.get("id"));
+            bh.consume(row.get("title"));
+        }
+        bh.consume(posts.jsonPath().getList("userId", Integer.class));
+        bh.consume(posts.jsonPath().getString("[0].title"));
+    }
+
+    @Benchmark
+    public void parsedOnce(Blackhole bh) {
+        ResponseDocument document = ResponseDocument.of(posts);
+        bh.consume(document.getList("$").isEmpty());
+        bh.consume(document.getList("$").size());
+        List<Map<String, Object>> rows = document.getList("$");
+        for (Map<String, Object> row : rows) {
+            bh.consume(row.get("id"));
+            bh.consume(row.get("title"));
+        }
+        bh.consume(document.getList("userId", Integer.class));
+        bh.consume(document.getString("[0].title"));
+    }
+}
@@ -0,0 +1,52 @@
+package com.upskill.benchmarks;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.BenchmarkParams;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * Measures how much heap a benchmark result keeps alive: the last object passed to
+ * {@link #retain(Object)} is held until the end of the iteration, then the live heap after
+ * a GC is compared with the baseline taken before the iteration. The largest value seen is
+ * printed at the end of the trial.
+ */
+@State(Scope.Thread)
+public class RetainedHeap {
+
+    private long baselineBytes;
+    private long maxRetainedBytes;
+    private Object retained;
+
+    @Setup(Level.Iteration)
+    public void baseline() {
+        retained = null;
+        baselineBytes = liveHeap();
+    }
+
+    public void retain(Object result) {
+        retained = result;
+    }
+
+    @TearDown(Level.Iteration)
+    public void measure() {
+        maxRetainedBytes = Math.max(maxRetainedBytes, liveHeap() - baselineBytes);
+        retained = null;
+    }
+
+    @TearDown(Level.Trial)
+    public void report(BenchmarkParams params) {
+        System.out.printf("%n[retained-heap] %s: %.1f MB%n",
+                params.getBenchmark(), maxRetainedBytes / (1024.0 * 1024.0));
+    }
+
+    private static long liveHeap() {
+        System.gc();
+        System.gc();
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+}
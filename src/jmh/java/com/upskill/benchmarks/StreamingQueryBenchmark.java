@@ -0,0 +1,58 @@
+package com.upskill.benchmarks;
+
+import com.upskill.db.DatabaseUtil;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reading a large table: DatabaseUtil.executeQuery (whole result as a list of maps)
+ * versus DatabaseUtil.forEachRow (streamed with a fetch size). Each op reads every row once;
+ * the [peak-heap] line printed per benchmark shows how much heap it needed.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+@State(Scope.Benchmark)
+public class StreamingQueryBenchmark {
+
+    private static final String SQL = "SELECT * FROM " + BenchmarkDatabase.TABLE;
+
+    @Param("1000000")
+    public int rows;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        BenchmarkDatabase.useEmbeddedDatabaseUnlessConfigured();
+        BenchmarkDatabase.ensureRows(rows);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        DatabaseUtil.closeConnection();
+        DatabaseUtil.shutdown();
+    }
+
+    @Benchmark
+    public int loadAll(PeakHeap heap, Blackhole bh) {
+        List<Map<String, Object>> result = DatabaseUtil.executeQuery(SQL);
+        for (Map<String, Object> row : result) {
+            bh.consume(row.get("email"));
+        }
+        heap.record();
+        return result.size();
+    }
+
+    @Benchmark
+    public long stream(PeakHeap heap, Blackhole bh) {
+        long count = DatabaseUtil.forEachRow(SQL, row -> bh.consume(row.get("email")));
+        heap.record();
+        return count;
+    }
+}
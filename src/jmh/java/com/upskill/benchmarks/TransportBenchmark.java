@@ -0,0 +1,50 @@
+package com.upskill.benchmarks;
+
+import com.upskill.api.ApiClient;
+import com.upskill.config.ConfigManager;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.BenchmarkParams;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * GETs from 16 threads against an h2c stub, through the pooled Apache HTTP/1.1 transport or the
+ * JDK HttpClient (HTTP/2, one multiplexed connection). The [connections] line printed at the
+ * end shows how many TCP connections each transport opened.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(16)
+@State(Scope.Benchmark)
+public class TransportBenchmark {
+
+    @Param({"apache", "jdk-http2"})
+    public String transport;
+
+    private H2cStub stub;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        BenchmarkLogging.quiet();
+        stub = H2cStub.start();
+        // Before ApiClient is first used in this fork: the transport is chosen once
+        System.setProperty("api.base.url", stub.baseUrl());
+        System.setProperty("api.transport", transport);
+        ConfigManager.reload();
+        ApiClient.send("GET", "/users/1", null, null);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown(BenchmarkParams params) throws Exception {
+        System.out.printf("%n[connections] %s (%s): %d opened%n", params.getBenchmark(), transport, stub.connectionsOpened());
+        stub.stop();
+    }
+
+    @Benchmark
+    public int getUser() {
+        return ApiClient.send("GET", "/users/1", null, null).getStatusCode();
+    }
+}
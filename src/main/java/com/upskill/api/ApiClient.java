@@ -1,11 +1,6 @@
 package com.upskill.api;
 
-import com.upskill.config.ConfigManager;
-import io.qameta.allure.Allure;
 import io.qameta.allure.Step;
-import io.qameta.allure.restassured.AllureRestAssured;
-import io.restassured.RestAssured;
-import io.restassured.http.ContentType;
 import io.restassured.response.Response;
 import io.restassured.specification.RequestSpecification;
 import org.slf4j.Logger;
@@ -19,35 +14,39 @@ import java.util.Map;
  * Provides methods for all HTTP verbs (GET, POST, PUT, PATCH, DELETE).
  * Integrates with Allure for request/response reporting.
  * Handles auth, headers, params, and body.
+ * Calls go through {@link Resilience}, which hedges and retries idempotent requests when
+ * api.resilience.enabled=true.
  */
 public class ApiClient {
 
     private static final Logger log = LoggerFactory.getLogger(ApiClient.class);
 
     /**
-     * Get a base request spec pre-configured with base URL, content type, and Allure filter.
+     * Get a request spec for an arbitrary base URL (base spec is built once and cached).
      */
     public static RequestSpecification getRequestSpec(String baseUrl) {
-        return RestAssured.given()
-                .baseUri(baseUrl)
-                .contentType(ContentType.JSON)
-                .accept(ContentType.JSON)
-                .filter(new AllureRestAssured())  // Allure captures request/response
-                .log().all();  // Log everything to console
+        return RequestSpecRegistry.newRequestForBaseUrl(baseUrl);
     }
 
     /**
      * Get spec with the default base URL from config.
      */
     public static RequestSpecification getRequestSpec() {
-        return getRequestSpec(ConfigManager.get("api.base.url"));
+        return RequestSpecRegistry.newRequest(RequestSpecRegistry.DEFAULT);
     }
 
     /**
      * Get spec for the reqres.in API.
      */
     public static RequestSpecification getReqresSpec() {
-        return getRequestSpec(ConfigManager.get("api.reqres.base.url"));
+        return RequestSpecRegistry.newRequest("reqres");
+    }
+
+    /**
+     * Async companion API: same calls, returning CompletableFuture&lt;Response&gt;.
+     */
+    public static AsyncApiClient async() {
+        return AsyncApiClient.shared();
     }
 
     // ==================== HTTP Methods ====================
@@ -55,9 +54,9 @@ public class ApiClient {
     @Step("GET {endpoint}")
     public static Response get(String endpoint) {
         log.info("GET {}", endpoint);
-        Response response = getRequestSpec()
+        Response response = Resilience.call("GET", endpoint, () -> getRequestSpec()
                 .when()
-                .get(endpoint);
+                .get(endpoint));
         logResponse(response);
         return response;
     }
@@ -65,10 +64,10 @@ public class ApiClient {
     @Step("GET {endpoint} with query params")
     public static Response get(String endpoint, Map<String, Object> queryParams) {
         log.info("GET {} with params: {}", endpoint, queryParams);
-        Response response = getRequestSpec()
+        Response response = Resilience.call("GET", endpoint, () -> getRequestSpec()
                 .queryParams(queryParams)
                 .when()
-                .get(endpoint);
+                .get(endpoint));
         logResponse(response);
         return response;
     }
@@ -76,10 +75,10 @@ public class ApiClient {
     @Step("GET {endpoint} with headers")
     public static Response getWithHeaders(String endpoint, Map<String, String> headers) {
         log.info("GET {} with headers: {}", endpoint, headers);
-        Response response = getRequestSpec()
+        Response response = Resilience.call("GET", endpoint, () -> getRequestSpec()
                 .headers(headers)
                 .when()
-                .get(endpoint);
+                .get(endpoint));
         logResponse(response);
         return response;
     }
@@ -87,10 +86,10 @@ public class ApiClient {
     @Step("POST {endpoint}")
     public static Response post(String endpoint, Object body) {
         log.info("POST {} with body: {}", endpoint, body);
-        Response response = getRequestSpec()
+        Response response = Resilience.call("POST", endpoint, () -> getRequestSpec()
                 .body(body)
                 .when()
-                .post(endpoint);
+                .post(endpoint));
         logResponse(response);
         return response;
     }
@@ -98,10 +97,10 @@ public class ApiClient {
     @Step("POST {endpoint} to reqres API")
     public static Response postReqres(String endpoint, Object body) {
         log.info("POST (reqres) {} with body: {}", endpoint, body);
-        Response response = getReqresSpec()
+        Response response = Resilience.call("POST", endpoint, () -> getReqresSpec()
                 .body(body)
                 .when()
-                .post(endpoint);
+                .post(endpoint));
         logResponse(response);
         return response;
     }
@@ -109,10 +108,10 @@ public class ApiClient {
     @Step("PUT {endpoint}")
     public static Response put(String endpoint, Object body) {
         log.info("PUT {} with body: {}", endpoint, body);
-        Response response = getRequestSpec()
+        Response response = Resilience.call("PUT", endpoint, () -> getRequestSpec()
                 .body(body)
                 .when()
-                .put(endpoint);
+                .put(endpoint));
         logResponse(response);
         return response;
     }
@@ -120,10 +119,10 @@ public class ApiClient {
     @Step("PATCH {endpoint}")
     public static Response patch(String endpoint, Object body) {
         log.info("PATCH {} with body: {}", endpoint, body);
-        Response response = getRequestSpec()
+        Response response = Resilience.call("PATCH", endpoint, () -> getRequestSpec()
                 .body(body)
                 .when()
-                .patch(endpoint);
+                .patch(endpoint));
         logResponse(response);
         return response;
     }
@@ -131,9 +130,9 @@ public class ApiClient {
     @Step("DELETE {endpoint}")
     public static Response delete(String endpoint) {
         log.info("DELETE {}", endpoint);
-        Response response = getRequestSpec()
+        Response response = Resilience.call("DELETE", endpoint, () -> getRequestSpec()
                 .when()
-                .delete(endpoint);
+                .delete(endpoint));
         logResponse(response);
         return response;
     }
@@ -141,11 +140,11 @@ public class ApiClient {
     @Step("POST {endpoint} with Bearer Token auth")
     public static Response postWithAuth(String endpoint, Object body, String token) {
         log.info("POST (auth) {} with token", endpoint);
-        Response response = getRequestSpec()
+        Response response = Resilience.call("POST", endpoint, () -> getRequestSpec()
                 .header("Authorization", "Bearer " + token)
                 .body(body)
                 .when()
-                .post(endpoint);
+                .post(endpoint));
         logResponse(response);
         return response;
     }
@@ -153,21 +152,31 @@ public class ApiClient {
     @Step("GET {endpoint} with Basic Auth")
     public static Response getWithBasicAuth(String endpoint, String username, String password) {
         log.info("GET (basic auth) {}", endpoint);
-        Response response = getRequestSpec()
-                .auth().basic(username, password)
+        // Preemptive: non-preemptive auth would store credentials on the shared pooled client
+        Response response = Resilience.call("GET", endpoint, () -> getRequestSpec()
+                .auth().preemptive().basic(username, password)
                 .when()
-                .get(endpoint);
+                .get(endpoint));
         logResponse(response);
         return response;
     }
 
+    /**
+     * Send a request without an Allure step and without INFO logging. Used by load runs,
+     * where thousands of calls would flood the log and the report. Never hedged or retried,
+     * so load results show the server's own latencies and errors.
+     */
+    public static Response send(String method, String endpoint, Map<String, Object> queryParams, Object body) {
+        RequestSpecification spec = getRequestSpec();
+        if (queryParams != null) spec.queryParams(queryParams);
+        if (body != null) spec.body(body);
+        return spec.when().request(method, endpoint);
+    }
+
     // ==================== Helpers ====================
 
     private static void logResponse(Response response) {
+        // Body logging and the Allure attachment happen once, in ResponseCapture's filter
         log.info("Response Status: {} {}", response.getStatusCode(), response.getStatusLine());
-        log.debug("Response Body: {}", response.getBody().asPrettyString());
-
-        // Attach response to Allure
-        Allure.addAttachment("Response Body", "application/json", response.getBody().asPrettyString());
     }
 }
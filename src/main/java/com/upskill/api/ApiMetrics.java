@@ -0,0 +1,211 @@
+package com.upskill.api;
+
+import com.upskill.replay.RecordReplay;
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * ApiMetrics - Run-wide latency histograms for every API call, per method and endpoint template.
+ *
+ * Calls are recorded by a filter in every base request spec, so ApiClient verbs, async calls
+ * and load runs are all counted. Endpoints are grouped by template: numeric and UUID path
+ * segments become {id}, so /users/1 and /users/2 both count as "GET /users/{id}".
+ * Recording is lock-free (HdrHistogram ConcurrentHistogram, microsecond resolution,
+ * 3 significant digits). Hedged and retried attempts made by {@link Resilience} are counted
+ * per endpoint as well; every attempt also lands in the histogram as a call of its own.
+ */
+public final class ApiMetrics {
+
+    public static final String TOTAL = "TOTAL";
+
+    private static final Filter FILTER = new MetricsFilter();
+    private static final Map<String, Endpoint> endpoints = new ConcurrentHashMap<>();
+
+    private ApiMetrics() {}
+
+    /**
+     * Filter added to every base request spec.
+     */
+    static Filter filter() {
+        return FILTER;
+    }
+
+    public static void record(String method, String path, long elapsedNanos, boolean error) {
+        endpoints.computeIfAbsent(method.toUpperCase() + " " + template(path), k -> new Endpoint())
+                .record(elapsedNanos, error);
+    }
+
+    /**
+     * Latency at the given percentile (0-100) in milliseconds, for an endpoint key such as
+     * "GET /users/{id}", or {@link #TOTAL} for every call.
+     */
+    public static double percentileMillis(String key, double percentile) {
+        Histogram histogram = histogram(key);
+        return histogram.getTotalCount() == 0 ? 0 : histogram.getValueAtPercentile(percentile) / 1000.0;
+    }
+
+    public static long count(String key) {
+        return histogram(key).getTotalCount();
+    }
+
+    /**
+     * Like {@link #percentileMillis(String, double)}, but -1 until the endpoint has at least
+     * minSamples calls recorded.
+     */
+    static double percentileMillisIfRecorded(String key, double percentile, long minSamples) {
+        Endpoint endpoint = endpoints.get(key);
+        if (endpoint == null || endpoint.histogram.getTotalCount() < Math.max(1, minSamples)) return -1;
+        return endpoint.histogram.copy().getValueAtPercentile(percentile) / 1000.0;
+    }
+
+    static void recordHedge(String key) {
+        endpoints.computeIfAbsent(key, k -> new Endpoint()).hedges.increment();
+    }
+
+    static void recordRetry(String key) {
+        endpoints.computeIfAbsent(key, k -> new Endpoint()).retries.increment();
+    }
+
+    /**
+     * Per-endpoint counts, errors and percentiles, endpoints sorted by key, plus a TOTAL row.
+     */
+    public static Map<String, Object> snapshot() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        Histogram total = new Histogram(3);
+        long totalErrors = 0;
+        long totalHedges = 0;
+        long totalRetries = 0;
+        for (Map.Entry<String, Endpoint> entry : new TreeMap<>(endpoints).entrySet()) {
+            Endpoint endpoint = entry.getValue();
+            Histogram copy = endpoint.histogram.copy();
+            long errors = endpoint.errors.sum();
+            long hedges = endpoint.hedges.sum();
+            long retries = endpoint.retries.sum();
+            result.put(entry.getKey(), summary(copy, errors, hedges, retries));
+            total.add(copy);
+            totalErrors += errors;
+            totalHedges += hedges;
+            totalRetries += retries;
+        }
+        result.put(TOTAL, summary(total, totalErrors, totalHedges, totalRetries));
+        return result;
+    }
+
+    public static void reset() {
+        endpoints.clear();
+    }
+
+    /**
+     * Path without query string, with ID-like segments replaced by {id}.
+     */
+    static String template(String path) {
+        int query = path.indexOf('?');
+        if (query >= 0) path = path.substring(0, query);
+        StringBuilder result = new StringBuilder(path.length());
+        int start = 0;
+        while (start <= path.length()) {
+            int end = path.indexOf('/', start);
+            if (end < 0) end = path.length();
+            String segment = path.substring(start, end);
+            result.append(isId(segment) ? "{id}" : segment);
+            if (end < path.length()) result.append('/');
+            start = end + 1;
+        }
+        return result.toString();
+    }
+
+    // ==================== Helpers ====================
+
+    private static boolean isId(String segment) {
+        if (segment.isEmpty()) return false;
+        boolean digits = true;
+        boolean hex = true;
+        for (int i = 0; i < segment.length(); i++) {
+            char c = segment.charAt(i);
+            if (c < '0' || c > '9') digits = false;
+            if (Character.digit(c, 16) < 0 && c != '-') hex = false;
+        }
+        // Plain numbers, and UUIDs / long hex ids
+        return digits || (hex && segment.length() >= 16);
+    }
+
+    private static Histogram histogram(String key) {
+        if (TOTAL.equals(key)) {
+            Histogram total = new Histogram(3);
+            endpoints.values().forEach(endpoint -> total.add(endpoint.histogram.copy()));
+            return total;
+        }
+        Endpoint endpoint = endpoints.get(key);
+        if (endpoint == null) {
+            throw new IllegalArgumentException("No calls recorded for '" + key + "'. Recorded: " + new TreeMap<>(endpoints).keySet());
+        }
+        return endpoint.histogram.copy();
+    }
+
+    private static Map<String, Object> summary(Histogram histogram, long errors, long hedges, long retries) {
+        boolean empty = histogram.getTotalCount() == 0;
+        Map<String, Object> row = new LinkedHashMap<>();
+        row.put("count", histogram.getTotalCount());
+        row.put("errors", errors);
+        row.put("hedges", hedges);
+        row.put("retries", retries);
+        row.put("meanMs", empty ? 0 : round(histogram.getMean() / 1000.0));
+        row.put("p50Ms", empty ? 0 : histogram.getValueAtPercentile(50) / 1000.0);
+        row.put("p90Ms", empty ? 0 : histogram.getValueAtPercentile(90) / 1000.0);
+        row.put("p99Ms", empty ? 0 : histogram.getValueAtPercentile(99) / 1000.0);
+        row.put("maxMs", empty ? 0 : histogram.getMaxValue() / 1000.0);
+        return row;
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 1000) / 1000.0;
+    }
+
+    private static final class Endpoint {
+        final ConcurrentHistogram histogram = new ConcurrentHistogram(3);
+        final LongAdder errors = new LongAdder();
+        final LongAdder hedges = new LongAdder();
+        final LongAdder retries = new LongAdder();
+
+        void record(long elapsedNanos, boolean error) {
+            histogram.recordValue(Math.max(1, elapsedNanos / 1000));
+            if (error) errors.increment();
+        }
+    }
+
+    /**
+     * Times each call; 4xx/5xx responses and exceptions count as errors.
+     */
+    private static final class MetricsFilter implements Filter {
+
+        @Override
+        public Response filter(FilterableRequestSpecification requestSpec,
+                               FilterableResponseSpecification responseSpec,
+                               FilterContext ctx) {
+            long start = System.nanoTime();
+            boolean error = true;  // also covers I/O errors, which REST Assured rethrows unchecked
+            try {
+                Response response = ctx.next(requestSpec, responseSpec);
+                response.asByteArray();  // include the body transfer in the timing
+                error = response.getStatusCode() >= 400;
+                return response;
+            } finally {
+                // A failure on an interrupted thread is a cancelled hedge, cut short: not a sample
+                if (!error || !Thread.currentThread().isInterrupted()) {
+                    record(requestSpec.getMethod(), RecordReplay.livePath(requestSpec.getDerivedPath()), System.nanoTime() - start, error);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package com.upskill.api;
+
+import com.upskill.config.ConfigManager;
+import com.upskill.utils.TestContext;
+import io.qameta.allure.Allure;
+import io.qameta.allure.AllureLifecycle;
+import io.qameta.allure.model.Status;
+import io.qameta.allure.model.StatusDetails;
+import io.qameta.allure.model.StepResult;
+import io.restassured.response.Response;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * AsyncApiClient - Non-blocking companion to {@link ApiClient}.
+ *
+ * Each call runs the regular blocking ApiClient method on an executor and returns a
+ * CompletableFuture, so independent requests in one scenario overlap instead of queueing.
+ * The calling thread's TestContext and current Allure step are carried into the task:
+ * every async call appears as its own step under the step that started it.
+ *
+ * Settings:
+ *   api.async.executor - "virtual" (default; virtual threads when the JVM has them) or "platform"
+ *   api.async.threads  - pool size for platform threads (also the fallback when virtual threads are unavailable)
+ */
+public class AsyncApiClient {
+
+    private static final Logger log = LoggerFactory.getLogger(AsyncApiClient.class);
+
+    private static volatile AsyncApiClient shared;
+
+    private final Executor executor;
+
+    public AsyncApiClient(Executor executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * Shared instance on the executor configured by api.async.executor.
+     */
+    static AsyncApiClient shared() {
+        if (shared == null) {
+            synchronized (AsyncApiClient.class) {
+                if (shared == null) shared = new AsyncApiClient(createDefaultExecutor());
+            }
+        }
+        return shared;
+    }
+
+    // ==================== HTTP Methods ====================
+
+    public CompletableFuture<Response> get(String endpoint) {
+        return submit("GET " + endpoint, () -> ApiClient.get(endpoint));
+    }
+
+    public CompletableFuture<Response> get(String endpoint, Map<String, Object> queryParams) {
+        return submit("GET " + endpoint, () -> ApiClient.get(endpoint, queryParams));
+    }
+
+    public CompletableFuture<Response> post(String endpoint, Object body) {
+        return submit("POST " + endpoint, () -> ApiClient.post(endpoint, body));
+    }
+
+    public CompletableFuture<Response> put(String endpoint, Object body) {
+        return submit("PUT " + endpoint, () -> ApiClient.put(endpoint, body));
+    }
+
+    public CompletableFuture<Response> patch(String endpoint, Object body) {
+        return submit("PATCH " + endpoint, () -> ApiClient.patch(endpoint, body));
+    }
+
+    public CompletableFuture<Response> delete(String endpoint) {
+        return submit("DELETE " + endpoint, () -> ApiClient.delete(endpoint));
+    }
+
+    /**
+     * Run any call on this client's executor with scenario context and Allure attribution carried over.
+     */
+    public <T> CompletableFuture<T> submit(String stepName, Supplier<T> call) {
+        Optional<String> parentStep = Allure.getLifecycle().getCurrentTestCaseOrStep();
+        Supplier<T> task = TestContext.propagate(call);
+        return CompletableFuture.supplyAsync(
+                () -> parentStep.map(parent -> runAsAllureStep(parent, stepName, task)).orElseGet(task),
+                executor);
+    }
+
+    // ==================== Helpers ====================
+
+    private static <T> T runAsAllureStep(String parentUuid, String stepName, Supplier<T> task) {
+        AllureLifecycle lifecycle = Allure.getLifecycle();
+        String uuid = UUID.randomUUID().toString();
+        // AllureLifecycle is safe to call from several threads: it locks its storage and
+        // synchronizes adding a step to its parent's list
+        lifecycle.startStep(parentUuid, uuid, new StepResult().setName("[async] " + stepName));
+        try {
+            T result = task.get();
+            lifecycle.updateStep(uuid, step -> step.setStatus(Status.PASSED));
+            return result;
+        } catch (RuntimeException | Error e) {
+            lifecycle.updateStep(uuid, step -> step
+                    .setStatus(e instanceof AssertionError ? Status.FAILED
+                            : e instanceof CancellationException ? Status.SKIPPED : Status.BROKEN)
+                    .setStatusDetails(new StatusDetails().setMessage(e.getMessage())));
+            throw e;
+        } finally {
+            lifecycle.stopStep(uuid);
+        }
+    }
+
+    private static ExecutorService createDefaultExecutor() {
+        String type = ConfigManager.get("api.async.executor", "virtual");
+        int threads = ConfigManager.getInt("api.async.threads", 16);
+        if (type.equalsIgnoreCase("virtual")) {
+            try {
+                // Looked up reflectively so the framework still builds and runs on Java 17
+                ExecutorService virtual = (ExecutorService) Executors.class
+                        .getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+                log.info("Async API executor: virtual threads");
+                return virtual;
+            } catch (ReflectiveOperationException e) {
+                log.info("Virtual threads not available on Java {}, using {} platform threads",
+                        Runtime.version().feature(), threads);
+            }
+        }
+        AtomicInteger counter = new AtomicInteger();
+        return Executors.newFixedThreadPool(threads, r -> {
+            Thread t = new Thread(r, "api-async-" + counter.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+    }
+}
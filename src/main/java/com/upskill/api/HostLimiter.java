@@ -0,0 +1,347 @@
+package com.upskill.api;
+
+import com.upskill.config.ConfigManager;
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.net.URI;
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * HostLimiter - Client-side rate and concurrency limits per target host (opt-in).
+ *
+ * With api.limit.enabled=true every request first takes a token from its host's token bucket
+ * (api.limit.rate.per.second, bursts up to api.limit.burst; 0 means no rate limit, and
+ * api.limit.rate.overrides sets per-host rates like "reqres.in=5,localhost=100"), then a slot
+ * under the host's concurrency limit.
+ *
+ * The concurrency limit adapts (AIMD): it starts at api.limit.concurrency.initial, grows by
+ * about one per round of responses while the host keeps up, and is multiplied by
+ * api.limit.decrease.factor (at most once per round trip) when the host answers 429 or 503,
+ * the call fails with an I/O error, or its recent latency rises above api.limit.latency.tolerance
+ * times its long-run average. A Retry-After on 429/503 also pauses the host's token bucket.
+ *
+ * Callers that can't go yet wait in FIFO order, parked until their turn (no spinning), for up to
+ * api.limit.queue.timeout.ms. Limits and queue depths are in {@link #stats()}.
+ */
+public final class HostLimiter {
+
+    private static final Logger log = LoggerFactory.getLogger(HostLimiter.class);
+
+    private static final Filter FILTER = new LimitFilter();
+    private static final Map<String, Limiter> limiters = new ConcurrentHashMap<>();
+    private static final Map<String, Double> rateOverrides = parseOverrides(ConfigManager.get("api.limit.rate.overrides", ""));
+
+    private HostLimiter() {}
+
+    /**
+     * Filter to add to base specs, or null when api.limit.enabled is false.
+     */
+    static Filter filter() {
+        return ConfigManager.getBoolean("api.limit.enabled", false) ? FILTER : null;
+    }
+
+    /**
+     * Per host: rate limit, current concurrency limit, in-flight and queued calls, and how
+     * often the host pushed back.
+     */
+    public static Map<String, Object> stats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        for (Map.Entry<String, Limiter> entry : new TreeMap<>(limiters).entrySet()) {
+            stats.put(entry.getKey(), entry.getValue().stats());
+        }
+        return stats;
+    }
+
+    public static void reset() {
+        limiters.clear();
+    }
+
+    // ==================== Helpers ====================
+
+    private static Limiter limiterFor(String uri) {
+        URI parsed = URI.create(uri);
+        String host = parsed.getPort() < 0 ? parsed.getHost() : parsed.getHost() + ":" + parsed.getPort();
+        return limiters.computeIfAbsent(host, h -> new Limiter(h, rateOverrides.getOrDefault(parsed.getHost(),
+                rateOverrides.getOrDefault(h, ConfigManager.getDouble("api.limit.rate.per.second", 0)))));
+    }
+
+    private static Map<String, Double> parseOverrides(String value) {
+        Map<String, Double> overrides = new HashMap<>();
+        for (String entry : value.split(",")) {
+            int eq = entry.indexOf('=');
+            if (eq > 0) overrides.put(entry.substring(0, eq).trim(), Double.valueOf(entry.substring(eq + 1).trim()));
+        }
+        return overrides;
+    }
+
+    private static long retryAfterNanos(Response response) {
+        String retryAfter = response.getHeader("Retry-After");
+        if (retryAfter == null || !retryAfter.trim().matches("\\d+")) return 0;
+        return TimeUnit.SECONDS.toNanos(Long.parseLong(retryAfter.trim()));
+    }
+
+    /**
+     * Token bucket and AIMD concurrency limit for one host. All state is guarded by one fair lock.
+     */
+    private static final class Limiter {
+
+        private static final int MIN_RTT_SAMPLES = 50;
+
+        private final String host;
+        private final double ratePerSecond;
+        private final double burst;
+        private final double minLimit = Math.max(1, ConfigManager.getInt("api.limit.concurrency.min", 1));
+        private final double maxLimit = ConfigManager.getInt("api.limit.concurrency.max", 200);
+        private final double decreaseFactor = ConfigManager.getDouble("api.limit.decrease.factor", 0.7);
+        private final double latencyTolerance = ConfigManager.getDouble("api.limit.latency.tolerance", 2.0);
+        private final long queueTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(ConfigManager.getLong("api.limit.queue.timeout.ms", 60000));
+
+        private final ReentrantLock lock = new ReentrantLock(true);
+        private final ArrayDeque<Waiter> waiters = new ArrayDeque<>();
+
+        // Token bucket
+        private double tokens;
+        private long refilledAt = System.nanoTime();
+        private long pausedUntil = refilledAt;
+
+        // Concurrency limit
+        private double limit = ConfigManager.getInt("api.limit.concurrency.initial", 20);
+        private int inFlight;
+        private int maxQueued;
+        private long lastDecrease = refilledAt;
+        private double smoothedRttNanos;
+        private double longTermRttNanos;
+        private long rttSamples;
+
+        // Counters
+        private long calls;
+        private long delayed;
+        private long waitNanos;
+        private long pushback;
+        private long decreases;
+
+        Limiter(String host, double ratePerSecond) {
+            this.host = host;
+            this.ratePerSecond = ratePerSecond;
+            this.burst = Math.max(1, ConfigManager.getDouble("api.limit.burst", Math.max(1, ratePerSecond)));
+            this.tokens = burst;
+        }
+
+        /**
+         * Take a token, then a concurrency slot; returns the nanos spent waiting.
+         */
+        long acquire() {
+            long start = System.nanoTime();
+            long deadline = start + queueTimeoutNanos;
+            long sendAt = reserveToken(start);
+            while (true) {
+                long wait = sendAt - System.nanoTime();
+                if (wait <= 0) break;
+                LockSupport.parkNanos(this, wait);
+                if (Thread.interrupted()) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("Interrupted waiting for the rate limit of " + host);
+                }
+            }
+            acquireSlot(deadline);
+            long waited = System.nanoTime() - start;
+            lock.lock();
+            try {
+                calls++;
+                if (waited > TimeUnit.MILLISECONDS.toNanos(1)) {
+                    delayed++;
+                    waitNanos += waited;
+                }
+            } finally {
+                lock.unlock();
+            }
+            return waited;
+        }
+
+        /**
+         * Free the caller's slot and adapt the limit; status is -1 for an I/O error and 0 for a
+         * cancelled call, which says nothing about the host.
+         */
+        void release(long rttNanos, int status, Response response) {
+            lock.lock();
+            try {
+                inFlight--;
+                if (status == 0) {
+                    grant();
+                    return;
+                }
+                long now = System.nanoTime();
+                boolean overloaded = status < 0 || status == 429 || status == 503;
+                if (overloaded) pushback++;
+                if (status > 0) {
+                    overloaded |= latencyTooHigh(rttNanos);
+                }
+                if ((status == 429 || status == 503) && response != null) {
+                    long retryAfter = retryAfterNanos(response);
+                    if (retryAfter > 0) pausedUntil = Math.max(pausedUntil, now + retryAfter);
+                }
+                if (overloaded) {
+                    if (now - lastDecrease > Math.max((long) smoothedRttNanos, TimeUnit.MILLISECONDS.toNanos(10))) {
+                        double previous = limit;
+                        limit = Math.max(minLimit, limit * decreaseFactor);
+                        lastDecrease = now;
+                        decreases++;
+                        log.debug("{}: concurrency limit {} -> {} ({})", host, (int) previous, (int) limit,
+                                status < 0 ? "I/O error" : status == 429 || status == 503 ? status : "latency");
+                    }
+                } else if (inFlight + 1 >= limit / 2) {
+                    // Only grow while the limit is actually in use
+                    limit = Math.min(maxLimit, limit + 1 / limit);
+                }
+                grant();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        Map<String, Object> stats() {
+            lock.lock();
+            try {
+                Map<String, Object> row = new LinkedHashMap<>();
+                row.put("ratePerSecond", ratePerSecond > 0 ? ratePerSecond : "unlimited");
+                row.put("concurrencyLimit", (int) limit);
+                row.put("inFlight", inFlight);
+                row.put("queued", waiters.size());
+                row.put("maxQueued", maxQueued);
+                row.put("calls", calls);
+                row.put("delayedCalls", delayed);
+                row.put("totalWaitMs", TimeUnit.NANOSECONDS.toMillis(waitNanos));
+                row.put("throttledOrFailed", pushback);
+                row.put("limitDecreases", decreases);
+                return row;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /**
+         * When this caller may send, as a nanoTime. Tokens may go negative: each caller books the
+         * next free send time, so callers are released in the order they asked.
+         */
+        private long reserveToken(long now) {
+            lock.lock();
+            try {
+                if (ratePerSecond <= 0) return pausedUntil;
+                tokens = Math.min(burst, tokens + (now - refilledAt) * ratePerSecond / 1e9);
+                refilledAt = now;
+                tokens -= 1;
+                long sendAt = tokens >= 0 ? now : now + (long) (-tokens * 1e9 / ratePerSecond);
+                return Math.max(sendAt, pausedUntil);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void acquireSlot(long deadline) {
+            lock.lock();
+            try {
+                if (waiters.isEmpty() && inFlight < (int) limit) {
+                    inFlight++;
+                    return;
+                }
+                Waiter waiter = new Waiter(lock.newCondition());
+                waiters.addLast(waiter);
+                maxQueued = Math.max(maxQueued, waiters.size());
+                try {
+                    while (!waiter.granted) {
+                        long remaining = deadline - System.nanoTime();
+                        if (remaining <= 0) {
+                            waiters.remove(waiter);
+                            throw new IllegalStateException("No free slot for " + host + " within "
+                                    + TimeUnit.NANOSECONDS.toMillis(queueTimeoutNanos) + " ms (concurrency limit "
+                                    + (int) limit + ", " + waiters.size() + " queued)");
+                        }
+                        waiter.ready.awaitNanos(remaining);
+                    }
+                } catch (InterruptedException e) {
+                    if (waiter.granted) {
+                        inFlight--;
+                        grant();
+                    } else {
+                        waiters.remove(waiter);
+                    }
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("Interrupted waiting for a slot for " + host, e);
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /**
+         * Hand free slots to waiting callers, oldest first. Caller holds the lock.
+         */
+        private void grant() {
+            while (!waiters.isEmpty() && inFlight < (int) limit) {
+                Waiter next = waiters.pollFirst();
+                next.granted = true;
+                inFlight++;
+                next.ready.signal();
+            }
+        }
+
+        /**
+         * Recent latency (fast-moving average) against the host's usual latency (slow-moving
+         * average), once there are enough samples. Caller holds the lock.
+         */
+        private boolean latencyTooHigh(long rttNanos) {
+            boolean first = rttSamples++ == 0;
+            smoothedRttNanos = first ? rttNanos : smoothedRttNanos * 0.8 + rttNanos * 0.2;
+            longTermRttNanos = first ? rttNanos : longTermRttNanos * 0.99 + rttNanos * 0.01;
+            return latencyTolerance > 0 && rttSamples >= MIN_RTT_SAMPLES && smoothedRttNanos > latencyTolerance * longTermRttNanos;
+        }
+    }
+
+    private static final class Waiter {
+        final Condition ready;
+        boolean granted;
+
+        Waiter(Condition ready) {
+            this.ready = ready;
+        }
+    }
+
+    /**
+     * Waits for the host's limits before the rest of the chain; cache hits never get here.
+     */
+    private static final class LimitFilter implements Filter {
+
+        @Override
+        public Response filter(FilterableRequestSpecification requestSpec,
+                               FilterableResponseSpecification responseSpec,
+                               FilterContext ctx) {
+            Limiter limiter = limiterFor(requestSpec.getURI());
+            limiter.acquire();
+            long start = System.nanoTime();
+            Response response = null;
+            try {
+                response = ctx.next(requestSpec, responseSpec);
+                return response;
+            } finally {
+                // A failed request on an interrupted thread was cancelled (a hedge that lost), not pushed back
+                int status = response != null ? response.getStatusCode() : Thread.currentThread().isInterrupted() ? 0 : -1;
+                limiter.release(System.nanoTime() - start, status, response);
+            }
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package com.upskill.api;
+
+import com.upskill.config.ConfigManager;
+import io.restassured.config.HttpClientConfig;
+import io.restassured.config.RestAssuredConfig;
+import org.apache.http.HttpRequest;
+import org.apache.http.client.methods.HttpUriRequest;
+import org.apache.http.conn.params.ConnManagerPNames;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.DefaultHttpClient;
+import org.apache.http.impl.client.RequestWrapper;
+import org.apache.http.impl.conn.PoolingClientConnectionManager;
+import org.apache.http.impl.conn.SchemeRegistryFactory;
+import org.apache.http.params.CoreConnectionPNames;
+import org.apache.http.pool.PoolStats;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * HttpTransport - Shared, pooled keep-alive HTTP client behind every ApiClient request.
+ *
+ * REST Assured creates a new Apache HttpClient per request by default, so each call pays
+ * for a fresh TCP connect and TLS handshake. This class owns one bounded connection pool
+ * for the whole JVM and hands REST Assured a config that reuses it.
+ * With api.transport=jdk-http2 requests go through {@link JdkHttpTransport} instead.
+ *
+ * Settings (config-{env}.properties):
+ *   api.connection.timeout   - connect timeout in ms (also used as pool lease timeout)
+ *   api.response.timeout     - socket read timeout in ms
+ *   api.pool.max.total       - max connections across all hosts
+ *   api.pool.max.per.route   - max connections per host
+ *   api.pool.keepalive.ms    - max time an idle connection is kept alive
+ *   api.pool.idle.evict.ms   - idle connections older than this are closed by a background sweeper
+ */
+@SuppressWarnings("deprecation")  // REST Assured 5 still requires the legacy AbstractHttpClient API
+public class HttpTransport {
+
+    private static final Logger log = LoggerFactory.getLogger(HttpTransport.class);
+
+    private static final PoolingClientConnectionManager connectionManager;
+    private static final DefaultHttpClient httpClient;
+    private static final RestAssuredConfig restAssuredConfig;
+    private static final ThreadLocal<Consumer<Runnable>> abortHandlers = new ThreadLocal<>();
+
+    static {
+        int connectTimeout = ConfigManager.getInt("api.connection.timeout", 10000);
+        int responseTimeout = ConfigManager.getInt("api.response.timeout", 30000);
+        int maxTotal = ConfigManager.getInt("api.pool.max.total", 50);
+        int maxPerRoute = ConfigManager.getInt("api.pool.max.per.route", 20);
+        long keepAliveMs = ConfigManager.getLong("api.pool.keepalive.ms", 30000);
+        long idleEvictMs = ConfigManager.getLong("api.pool.idle.evict.ms", 60000);
+
+        connectionManager = new PoolingClientConnectionManager(
+                SchemeRegistryFactory.createDefault(), keepAliveMs, TimeUnit.MILLISECONDS);
+        connectionManager.setMaxTotal(maxTotal);
+        connectionManager.setDefaultMaxPerRoute(maxPerRoute);
+
+        httpClient = new DefaultHttpClient(connectionManager);
+        // Honour the server's Keep-Alive header, but never keep a connection longer than configured
+        httpClient.setKeepAliveStrategy((response, context) -> {
+            long serverKeepAlive = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context);
+            return serverKeepAlive > 0 ? Math.min(serverKeepAlive, keepAliveMs) : keepAliveMs;
+        });
+        // Runs once the request holds its pooled connection, just before it is sent
+        httpClient.addRequestInterceptor((request, context) -> {
+            Consumer<Runnable> handler = abortHandlers.get();
+            HttpRequest original = request instanceof RequestWrapper ? ((RequestWrapper) request).getOriginal() : request;
+            if (handler != null && original instanceof HttpUriRequest) {
+                handler.accept(((HttpUriRequest) original)::abort);
+            }
+        });
+
+        restAssuredConfig = RestAssuredConfig.config().httpClient(HttpClientConfig.httpClientConfig()
+                .httpClientFactory(() -> httpClient)
+                .reuseHttpClientInstance()
+                .setParam(CoreConnectionPNames.CONNECTION_TIMEOUT, connectTimeout)
+                .setParam(CoreConnectionPNames.SO_TIMEOUT, responseTimeout)
+                .setParam(ConnManagerPNames.TIMEOUT, (long) connectTimeout));
+
+        ScheduledExecutorService evictor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "http-pool-evictor");
+            t.setDaemon(true);
+            return t;
+        });
+        long sweepMs = Math.max(1000, idleEvictMs / 2);
+        evictor.scheduleWithFixedDelay(() -> {
+            connectionManager.closeExpiredConnections();
+            connectionManager.closeIdleConnections(idleEvictMs, TimeUnit.MILLISECONDS);
+        }, sweepMs, sweepMs, TimeUnit.MILLISECONDS);
+
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            log.info("HTTP pool at shutdown: {}", poolStats());
+            evictor.shutdownNow();
+            connectionManager.shutdown();
+        }, "http-pool-shutdown"));
+
+        log.info("HTTP pool ready (maxTotal={}, maxPerRoute={}, keepAlive={}ms, idleEvict={}ms, connect={}ms, read={}ms)",
+                maxTotal, maxPerRoute, keepAliveMs, idleEvictMs, connectTimeout, responseTimeout);
+    }
+
+    private HttpTransport() {}
+
+    /**
+     * REST Assured config that routes requests through the shared pool.
+     */
+    public static RestAssuredConfig config() {
+        return restAssuredConfig;
+    }
+
+    /**
+     * Run a call whose requests may need to be stopped from another thread: every request it
+     * sends through the pool is handed to abortHandler as an action that aborts it, closing
+     * its connection (used by {@link Resilience} to cancel a hedged attempt that lost).
+     */
+    static <T> T withAbortHandler(Consumer<Runnable> abortHandler, Supplier<T> call) {
+        Consumer<Runnable> previous = abortHandlers.get();
+        abortHandlers.set(abortHandler);
+        try {
+            return call.get();
+        } finally {
+            if (previous == null) abortHandlers.remove();
+            else abortHandlers.set(previous);
+        }
+    }
+
+    /**
+     * Current pool utilization: leased, idle, pending (threads waiting for a connection) and max.
+     */
+    public static Map<String, Integer> poolStats() {
+        PoolStats stats = connectionManager.getTotalStats();
+        Map<String, Integer> result = new LinkedHashMap<>();
+        result.put("leased", stats.getLeased());
+        result.put("idle", stats.getAvailable());
+        result.put("pending", stats.getPending());
+        result.put("max", stats.getMax());
+        return result;
+    }
+}
@@ -0,0 +1,189 @@
+package com.upskill.api;
+
+import com.upskill.config.ConfigManager;
+import io.restassured.authentication.AuthenticationScheme;
+import io.restassured.authentication.BasicAuthScheme;
+import io.restassured.authentication.PreemptiveBasicAuthScheme;
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.http.Header;
+import io.restassured.http.Headers;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * JdkHttpTransport - Sends requests with java.net.http.HttpClient instead of REST Assured's Apache client.
+ *
+ * Selected with api.transport=jdk-http2 (default: apache, see HttpTransport). The client
+ * prefers HTTP/2: over https it is negotiated with ALPN, over plain http with an h2c upgrade
+ * on the first request to each host, and it falls back to HTTP/1.1 when the server doesn't
+ * support it. On HTTP/2 all concurrent requests to a host share one multiplexed connection.
+ *
+ * It runs as the last filter in every base spec and answers the request itself, so request
+ * building, the other filters and Response-based assertions are unchanged. Preemptive or
+ * plain basic auth is sent as an Authorization header; other REST Assured auth schemes are
+ * not supported on this transport.
+ *
+ * Response.getTime() is filled in through REST Assured internals (see ResponseTiming), checked when
+ * the transport is selected. If a REST Assured upgrade breaks that, getTime() returns -1 on
+ * this transport and a warning is logged; everything else keeps working.
+ */
+public final class JdkHttpTransport {
+
+    private static final Logger log = LoggerFactory.getLogger(JdkHttpTransport.class);
+
+    public static final String APACHE = "apache";
+    public static final String JDK_HTTP2 = "jdk-http2";
+
+    /** Headers the JDK client sets itself and refuses from callers. */
+    private static final Set<String> RESTRICTED = Set.of("connection", "content-length", "expect", "host", "upgrade");
+
+    private static final String transport = ConfigManager.get("api.transport", APACHE).trim().toLowerCase(Locale.ROOT);
+    private static final Duration responseTimeout = Duration.ofMillis(ConfigManager.getInt("api.response.timeout", 30000));
+    private static final Filter FILTER = new JdkFilter();
+    private static volatile HttpClient client;
+
+    private JdkHttpTransport() {}
+
+    /**
+     * Filter to add last to base specs, or null when the Apache transport is in use.
+     */
+    static Filter filter() {
+        if (transport.equals(APACHE)) return null;
+        if (!transport.equals(JDK_HTTP2)) {
+            throw new IllegalArgumentException("Unknown api.transport '" + transport + "' (expected " + APACHE + " or " + JDK_HTTP2 + ")");
+        }
+        if (!ResponseTiming.isAvailable()) {
+            log.warn("This REST Assured version does not expose the response timing hook; "
+                    + "Response.getTime() returns -1 with api.transport={}", JDK_HTTP2);
+        }
+        return FILTER;
+    }
+
+    public static String name() {
+        return transport;
+    }
+
+    private static HttpClient client() {
+        HttpClient c = client;
+        if (c == null) {
+            synchronized (JdkHttpTransport.class) {
+                if (client == null) {
+                    client = HttpClient.newBuilder()
+                            .version(HttpClient.Version.HTTP_2)
+                            .connectTimeout(Duration.ofMillis(ConfigManager.getInt("api.connection.timeout", 10000)))
+                            .followRedirects(HttpClient.Redirect.NORMAL)
+                            .build();
+                    log.info("Using JDK HttpClient transport (HTTP/2 preferred)");
+                }
+                c = client;
+            }
+        }
+        return c;
+    }
+
+    private static HttpRequest toJdkRequest(FilterableRequestSpecification requestSpec) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(requestSpec.getURI()))
+                .timeout(responseTimeout)
+                .method(requestSpec.getMethod().toUpperCase(Locale.ROOT), bodyPublisher(requestSpec.getBody()));
+        boolean hasContentType = false;
+        for (Header header : requestSpec.getHeaders()) {
+            String name = header.getName().toLowerCase(Locale.ROOT);
+            if (RESTRICTED.contains(name)) continue;
+            if (name.equals("content-type")) hasContentType = true;
+            builder.header(header.getName(), header.getValue());
+        }
+        if (!hasContentType && requestSpec.getContentType() != null && requestSpec.getBody() != null) {
+            builder.header("Content-Type", requestSpec.getContentType());
+        }
+        String authorization = basicAuthorization(requestSpec.getAuthenticationScheme());
+        if (authorization != null && !requestSpec.getHeaders().hasHeaderWithName("Authorization")) {
+            builder.header("Authorization", authorization);
+        }
+        return builder.build();
+    }
+
+    private static HttpRequest.BodyPublisher bodyPublisher(Object body) {
+        if (body == null) return HttpRequest.BodyPublishers.noBody();
+        if (body instanceof byte[]) return HttpRequest.BodyPublishers.ofByteArray((byte[]) body);
+        return HttpRequest.BodyPublishers.ofString(body.toString(), StandardCharsets.UTF_8);
+    }
+
+    private static String basicAuthorization(AuthenticationScheme scheme) {
+        String user;
+        String password;
+        if (scheme instanceof PreemptiveBasicAuthScheme) {
+            user = ((PreemptiveBasicAuthScheme) scheme).getUserName();
+            password = ((PreemptiveBasicAuthScheme) scheme).getPassword();
+        } else if (scheme instanceof BasicAuthScheme) {
+            user = ((BasicAuthScheme) scheme).getUserName();
+            password = ((BasicAuthScheme) scheme).getPassword();
+        } else {
+            return null;
+        }
+        String credentials = user + ":" + password;
+        return "Basic " + Base64.getEncoder().encodeToString(credentials.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static Response toResponse(HttpResponse<byte[]> jdkResponse, long elapsedMillis) {
+        List<Header> headers = new ArrayList<>();
+        for (Map.Entry<String, List<String>> entry : jdkResponse.headers().map().entrySet()) {
+            if (entry.getKey().startsWith(":")) continue;  // HTTP/2 pseudo-headers
+            for (String value : entry.getValue()) {
+                headers.add(new Header(entry.getKey(), value));
+            }
+        }
+        String protocol = jdkResponse.version() == HttpClient.Version.HTTP_2 ? "HTTP/2" : "HTTP/1.1";
+        ResponseBuilder builder = new ResponseBuilder()
+                .setStatusCode(jdkResponse.statusCode())
+                .setStatusLine(protocol + " " + jdkResponse.statusCode())
+                .setHeaders(new Headers(headers))
+                .setBody(jdkResponse.body());
+        jdkResponse.headers().firstValue("Content-Type").ifPresent(builder::setContentType);
+        Response response = builder.build();
+        ResponseTiming.setTime(response, elapsedMillis);
+        return response;
+    }
+
+    /**
+     * Ends the filter chain: sends the request itself instead of calling ctx.next.
+     */
+    private static final class JdkFilter implements Filter {
+
+        @Override
+        public Response filter(FilterableRequestSpecification requestSpec,
+                               FilterableResponseSpecification responseSpec,
+                               FilterContext ctx) {
+            HttpRequest request = toJdkRequest(requestSpec);
+            long start = System.nanoTime();
+            try {
+                HttpResponse<byte[]> jdkResponse = client().send(request, HttpResponse.BodyHandlers.ofByteArray());
+                return toResponse(jdkResponse, (System.nanoTime() - start) / 1_000_000);
+            } catch (IOException e) {
+                throw new UncheckedIOException(request.method() + " " + request.uri() + " failed: " + e.getMessage(), e);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted during " + request.method() + " " + request.uri(), e);
+            }
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.upskill.api;
+
+import com.upskill.config.ConfigManager;
+import com.upskill.replay.RecordReplay;
+import io.restassured.RestAssured;
+import io.restassured.builder.RequestSpecBuilder;
+import io.restassured.filter.Filter;
+import io.restassured.http.ContentType;
+import io.restassured.specification.RequestSpecification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * RequestSpecRegistry - One prebuilt base request spec per named API target.
+ *
+ * Targets are discovered from config once at startup:
+ *   api.base.url          -> "default" (JSONPlaceholder)
+ *   api.{name}.base.url   -> "{name}"  (e.g. api.reqres.base.url -> "reqres")
+ *
+ * With api.mode=replay every target is served by the local replay server (see RecordReplay).
+ *
+ * Base specs (base URI, JSON content type, shared capture and metrics filters, pooled transport)
+ * are never handed out directly. Each request gets a cheap derived copy via {@link #newRequest(String)},
+ * so per-request setup no longer does config lookups or allocates filters.
+ */
+public class RequestSpecRegistry {
+
+    private static final Logger log = LoggerFactory.getLogger(RequestSpecRegistry.class);
+
+    public static final String DEFAULT = "default";
+
+    private static final Pattern TARGET_KEY = Pattern.compile("api\\.(.+)\\.base\\.url");
+
+    private static volatile Map<String, RequestSpecification> targets;
+    private static final Map<String, RequestSpecification> byBaseUrl = new ConcurrentHashMap<>();
+
+    static {
+        reload();
+    }
+
+    private RequestSpecRegistry() {}
+
+    /**
+     * New request derived from the base spec of a named target.
+     */
+    public static RequestSpecification newRequest(String target) {
+        RequestSpecification base = targets.get(target);
+        if (base == null) {
+            throw new IllegalArgumentException("Unknown API target '" + target + "'. Known targets: " + targets.keySet());
+        }
+        return RestAssured.given().spec(base);
+    }
+
+    /**
+     * New request against an arbitrary base URL. The base spec is built on first use and cached.
+     */
+    public static RequestSpecification newRequestForBaseUrl(String baseUrl) {
+        return RestAssured.given().spec(byBaseUrl.computeIfAbsent(baseUrl, RequestSpecRegistry::buildBaseSpec));
+    }
+
+    public static Set<String> targets() {
+        return targets.keySet();
+    }
+
+    /**
+     * Rebuild all base specs from the current config (call after ConfigManager.reload()).
+     */
+    public static synchronized void reload() {
+        Map<String, RequestSpecification> built = new LinkedHashMap<>();
+        byBaseUrl.clear();
+        for (String key : ConfigManager.keys()) {
+            String name = targetName(key);
+            if (name == null) continue;
+            String baseUrl = ConfigManager.get(key);
+            RequestSpecification spec = byBaseUrl.computeIfAbsent(baseUrl, RequestSpecRegistry::buildBaseSpec);
+            built.put(name, spec);
+            log.info("API target '{}' -> {}", name, baseUrl);
+        }
+        targets = Collections.unmodifiableMap(built);
+    }
+
+    private static String targetName(String key) {
+        if (key.equals("api.base.url")) return DEFAULT;
+        Matcher m = TARGET_KEY.matcher(key);
+        return m.matches() ? m.group(1) : null;
+    }
+
+    private static RequestSpecification buildBaseSpec(String baseUrl) {
+        RequestSpecBuilder builder = new RequestSpecBuilder()
+                .setConfig(HttpTransport.config())
+                .setBaseUri(RecordReplay.baseUrl(baseUrl))  // local replay server when api.mode=replay
+                .setContentType(ContentType.JSON)
+                .setAccept(ContentType.JSON)
+                .addFilter(ResponseCapture.filter())  // DEBUG logs + size-capped Allure attachments
+                .addFilter(ResponseCache.filter());   // GET cache for @cacheable scenarios
+        Filter limiter = HostLimiter.filter();
+        if (limiter != null) builder.addFilter(limiter);  // api.limit.enabled, queue time stays out of the metrics
+        builder.addFilter(ApiMetrics.filter());           // run-wide latency histograms
+        Filter recorder = RecordReplay.filter();
+        if (recorder != null) builder.addFilter(recorder);  // api.mode=record
+        Filter jdkTransport = JdkHttpTransport.filter();
+        if (jdkTransport != null) builder.addFilter(jdkTransport);  // api.transport=jdk-http2, must stay last
+        return builder.build();
+    }
+}
@@ -0,0 +1,330 @@
+package com.upskill.api;
+
+import com.upskill.config.ConfigManager;
+import io.restassured.response.Response;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Resilience - Hedged requests and budgeted retries for idempotent ApiClient calls (opt-in).
+ *
+ * With api.resilience.enabled=true, a call that may safely be repeated is:
+ *   - hedged: if no response has arrived after the endpoint's p{api.hedge.percentile} latency
+ *     so far (api.hedge.delay.ms until api.hedge.min.samples calls are recorded, never less
+ *     than api.hedge.min.delay.ms), an identical request is sent and the first response wins;
+ *   - retried on I/O errors and on api.retry.statuses, with exponential backoff and full
+ *     jitter (api.retry.base.delay.ms doubling up to api.retry.max.delay.ms, or Retry-After),
+ *     at most api.retry.max.attempts attempts, and no new attempt once api.retry.budget.ms
+ *     has passed since the call started.
+ * Hedges are attempts too: they count towards api.retry.max.attempts and are not sent once the
+ * budget is spent. When one of two racing attempts answers, the other is cancelled: its thread
+ * is interrupted and its request aborted, which frees its connection and HostLimiter slot.
+ *
+ * Safe to repeat: GET, HEAD, OPTIONS, PUT and DELETE. POST and PATCH never are, unless the
+ * endpoint is listed in api.resilience.safe.endpoints ("POST /search, PATCH /users/{id}") or
+ * registered with {@link #markSafe(String, String)}. Other calls go straight through.
+ *
+ * Attempts run on a dedicated executor with the scenario's TestContext and Allure step carried
+ * over, so each one shows up as its own step (skipped, for a cancelled attempt). Hedges and
+ * retries are counted per endpoint in {@link ApiMetrics}.
+ */
+public final class Resilience {
+
+    private static final Logger log = LoggerFactory.getLogger(Resilience.class);
+
+    private static final Set<String> IDEMPOTENT = Set.of("GET", "HEAD", "OPTIONS", "PUT", "DELETE");
+    private static final Set<String> safeEndpoints = ConcurrentHashMap.newKeySet();
+    private static final Set<Integer> retryStatuses = Arrays.stream(ConfigManager.get("api.retry.statuses", "429,502,503,504").split(","))
+            .map(String::trim).filter(s -> !s.isEmpty()).map(Integer::valueOf).collect(Collectors.toSet());
+    private static final AsyncApiClient attempts = new AsyncApiClient(createExecutor());
+
+    static {
+        for (String endpoint : ConfigManager.get("api.resilience.safe.endpoints", "").split(",")) {
+            String[] parts = endpoint.trim().split("\\s+", 2);
+            if (parts.length == 2) markSafe(parts[0], parts[1]);
+        }
+    }
+
+    private Resilience() {}
+
+    public static boolean isEnabled() {
+        return ConfigManager.getBoolean("api.resilience.enabled", false);
+    }
+
+    /**
+     * Allow hedging and retries for a non-idempotent endpoint, e.g. markSafe("POST", "/search").
+     * Numeric path segments match any id, as in ApiMetrics.
+     */
+    public static void markSafe(String method, String endpoint) {
+        safeEndpoints.add(key(method, endpoint));
+    }
+
+    public static boolean isSafeToRepeat(String method, String endpoint) {
+        String verb = method.toUpperCase();
+        return IDEMPOTENT.contains(verb) || safeEndpoints.contains(key(verb, endpoint));
+    }
+
+    /**
+     * Run a call with hedging and retries when enabled and safe; otherwise just run it.
+     * The call must build a fresh request each time it is invoked.
+     */
+    public static Response call(String method, String endpoint, Supplier<Response> call) {
+        if (!isEnabled() || !isSafeToRepeat(method, endpoint)) {
+            return call.get();
+        }
+        String key = key(method, endpoint);
+        Budget budget = new Budget(Math.max(1, ConfigManager.getInt("api.retry.max.attempts", 3)),
+                System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(ConfigManager.getLong("api.retry.budget.ms", 10000)));
+
+        for (int round = 1; ; round++) {
+            Response response = null;
+            RuntimeException failure = null;
+            try {
+                response = hedged(key, call, round, budget);
+            } catch (RuntimeException e) {
+                if (!isIoFailure(e)) throw e;
+                failure = e;
+            }
+            boolean retryable = failure != null || retryStatuses.contains(response.getStatusCode());
+            if (!retryable || budget.sent >= budget.maxAttempts) {
+                if (failure != null) throw failure;
+                return response;
+            }
+            long delayMillis = backoffMillis(round, response);
+            if (!budget.allows(delayMillis)) {
+                log.info("{}: retry budget spent after {} attempt(s)", key, budget.sent);
+                if (failure != null) throw failure;
+                return response;
+            }
+            log.info("{}: attempt {} {}, retrying in {} ms", key, budget.sent,
+                    failure != null ? "failed (" + failure.getMessage() + ")" : "got " + response.getStatusCode(), delayMillis);
+            ApiMetrics.recordRetry(key);
+            sleep(delayMillis);
+        }
+    }
+
+    // ==================== Helpers ====================
+
+    /**
+     * One attempt, plus a duplicate if the first is slower than the hedge delay and the budget
+     * has room for another attempt.
+     */
+    private static Response hedged(String key, Supplier<Response> call, int round, Budget budget) {
+        String name = key + (round > 1 ? " (retry " + (round - 1) + ")" : "");
+        budget.sent++;
+        Attempt primary = new Attempt(name, call);
+        long hedgeDelay = hedgeDelayMillis(key);
+        Attempt hedge = null;
+        try {
+            return primary.result.get(hedgeDelay, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            if (budget.sent >= budget.maxAttempts || !budget.allows(0)) {
+                log.info("{}: no response after {} ms, no attempts left to hedge with", key, hedgeDelay);
+                return join(primary.result);
+            }
+            log.info("{}: no response after {} ms, sending hedge", key, hedgeDelay);
+            ApiMetrics.recordHedge(key);
+            budget.sent++;
+            hedge = new Attempt(name + " (hedge)", call);
+            return join(firstSuccessful(primary, hedge));
+        } catch (ExecutionException e) {
+            throw unwrap(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted waiting for " + key, e);
+        } finally {
+            // No-op for an attempt that has finished; stops the other one if the caller gave up
+            primary.cancel();
+            if (hedge != null) hedge.cancel();
+        }
+    }
+
+    /**
+     * Completes with whichever response arrives first and cancels the other attempt; fails
+     * only if both attempts fail.
+     */
+    private static CompletableFuture<Response> firstSuccessful(Attempt a, Attempt b) {
+        CompletableFuture<Response> winner = new CompletableFuture<>();
+        AtomicInteger failures = new AtomicInteger();
+        for (Attempt attempt : Arrays.asList(a, b)) {
+            Attempt other = attempt == a ? b : a;
+            attempt.result.whenComplete((response, error) -> {
+                if (error == null) {
+                    if (winner.complete(response)) other.cancel();
+                } else if (failures.incrementAndGet() == 2) {
+                    winner.completeExceptionally(error);
+                }
+            });
+        }
+        return winner;
+    }
+
+    private static long hedgeDelayMillis(String key) {
+        double percentile = ConfigManager.getInt("api.hedge.percentile", 95);
+        long minSamples = ConfigManager.getLong("api.hedge.min.samples", 20);
+        long fallback = ConfigManager.getLong("api.hedge.delay.ms", 1000);
+        long floor = ConfigManager.getLong("api.hedge.min.delay.ms", 50);
+        double observed = ApiMetrics.percentileMillisIfRecorded(key, percentile, minSamples);
+        long delay = observed < 0 ? fallback : (long) Math.ceil(observed);
+        return Math.max(floor, delay);
+    }
+
+    private static long backoffMillis(int attempt, Response response) {
+        long base = ConfigManager.getLong("api.retry.base.delay.ms", 100);
+        long max = ConfigManager.getLong("api.retry.max.delay.ms", 2000);
+        long ceiling = Math.min(max, base << Math.min(attempt - 1, 20));
+        long delay = ThreadLocalRandom.current().nextLong(ceiling + 1);
+        String retryAfter = response == null ? null : response.getHeader("Retry-After");
+        if (retryAfter != null && retryAfter.trim().matches("\\d+")) {
+            delay = Math.max(delay, Long.parseLong(retryAfter.trim()) * 1000);
+        }
+        return delay;
+    }
+
+    /**
+     * REST Assured rethrows checked IOExceptions as-is; anything with an IOException cause
+     * (connect refused, reset, read timeout, pool timeout) is worth another attempt.
+     */
+    private static boolean isIoFailure(Throwable e) {
+        for (Throwable t = e; t != null; t = t.getCause()) {
+            if (t instanceof IOException) return true;
+        }
+        return false;
+    }
+
+    private static Response join(CompletableFuture<Response> future) {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            throw unwrap(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted waiting for a response", e);
+        }
+    }
+
+    private static RuntimeException unwrap(Throwable cause) {
+        if (cause instanceof RuntimeException) return (RuntimeException) cause;
+        if (cause instanceof Error) throw (Error) cause;
+        return new IllegalStateException(cause.getMessage(), cause);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted during retry backoff", e);
+        }
+    }
+
+    private static String key(String method, String endpoint) {
+        return method.toUpperCase() + " " + ApiMetrics.template(endpoint);
+    }
+
+    /**
+     * Attempts sent for one call, against api.retry.max.attempts and api.retry.budget.ms.
+     * Only touched by the calling thread.
+     */
+    private static final class Budget {
+        final int maxAttempts;
+        final long deadline;
+        int sent;
+
+        Budget(int maxAttempts, long deadline) {
+            this.maxAttempts = maxAttempts;
+            this.deadline = deadline;
+        }
+
+        /**
+         * Whether an attempt started after waiting delayMillis would still be within the budget.
+         */
+        boolean allows(long delayMillis) {
+            return System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(delayMillis) < deadline;
+        }
+    }
+
+    /**
+     * One request of a call, run on the attempts executor. Cancelling it interrupts its thread,
+     * which ends a wait in HostLimiter or a JDK transport request, and aborts the request it
+     * sent through the pooled transport, which closes that connection.
+     */
+    private static final class Attempt {
+        final CompletableFuture<Response> result;
+        private Thread runner;
+        private Runnable abortRequest;
+        private boolean cancelled;
+        private boolean finished;
+
+        Attempt(String name, Supplier<Response> call) {
+            result = attempts.submit(name, () -> run(name, call));
+        }
+
+        private Response run(String name, Supplier<Response> call) {
+            synchronized (this) {
+                if (cancelled) throw new CancellationException(name + ": another attempt answered first");
+                runner = Thread.currentThread();
+            }
+            try {
+                return HttpTransport.withAbortHandler(this::sending, call);
+            } catch (RuntimeException e) {
+                synchronized (this) {
+                    if (cancelled) {
+                        CancellationException cancellation = new CancellationException(name + ": another attempt answered first");
+                        cancellation.initCause(e);
+                        throw cancellation;
+                    }
+                }
+                throw e;
+            } finally {
+                synchronized (this) {
+                    finished = true;
+                    runner = null;
+                    Thread.interrupted();  // a cancel that came too late must not reach the thread's next task
+                }
+            }
+        }
+
+        private synchronized void sending(Runnable abort) {
+            abortRequest = abort;
+            if (cancelled) abort.run();
+        }
+
+        synchronized void cancel() {
+            if (cancelled || finished) return;
+            cancelled = true;
+            // Interrupt first: the filters treat an interrupted thread's failed request as cancelled
+            if (runner != null) runner.interrupt();
+            if (abortRequest != null) abortRequest.run();
+        }
+    }
+
+    /**
+     * Unbounded and separate from the async API pool, so attempts started from async calls
+     * can't starve each other.
+     */
+    private static ExecutorService createExecutor() {
+        AtomicInteger counter = new AtomicInteger();
+        return Executors.newCachedThreadPool(r -> {
+            Thread t = new Thread(r, "api-attempt-" + counter.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+    }
+}
@@ -0,0 +1,236 @@
+package com.upskill.api;
+
+import com.upskill.config.ConfigManager;
+import com.upskill.utils.TestContext;
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.http.Headers;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * ResponseCache - Opt-in, bounded TTL cache for GET responses, shared across scenarios.
+ *
+ * Off unless the scenario is tagged @cacheable (Hooks calls {@link #enableForScenario()}).
+ * Successful GET responses are kept for api.cache.ttl.ms, at most api.cache.max.entries of
+ * them (least recently used evicted first), keyed by full URL with query string plus the
+ * headers named in api.cache.vary.headers.
+ *
+ * Writes are never cached and always go to the server. Once a scenario sends a POST, PUT,
+ * PATCH or DELETE, nothing is read from or stored in the cache for the rest of that scenario.
+ * A write also evicts cached entries for the same resource, the resources under it and its
+ * parent collection, for every scenario. Scenario state lives in TestContext, so async
+ * requests started with TestContext.propagate count too.
+ *
+ * A cache hit reports the response time of the call that was cached, so response-time steps
+ * check the same latency they would have without the cache.
+ */
+public final class ResponseCache {
+
+    private static final Logger log = LoggerFactory.getLogger(ResponseCache.class);
+
+    private static final String ENABLED = "responseCache.enabled";
+    private static final String WRITE_SEEN = "responseCache.writeSeen";
+    private static final Set<String> WRITES = Set.of("POST", "PUT", "PATCH", "DELETE");
+
+    private static final Filter FILTER = new CacheFilter();
+    private static final int maxEntries = ConfigManager.getInt("api.cache.max.entries", 500);
+    private static final long ttlNanos = ConfigManager.getLong("api.cache.ttl.ms", 60000) * 1_000_000L;
+    private static final List<String> varyHeaders = List.of(ConfigManager.get("api.cache.vary.headers", "Accept,Authorization").split("\\s*,\\s*"));
+
+    private static final Map<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private static final LongAdder hits = new LongAdder();
+    private static final LongAdder misses = new LongAdder();
+    private static final LongAdder bytesSaved = new LongAdder();
+    private static final LongAdder evictions = new LongAdder();
+
+    private ResponseCache() {}
+
+    /**
+     * Filter added to every base request spec.
+     */
+    static Filter filter() {
+        return FILTER;
+    }
+
+    /**
+     * Let GETs in the current scenario use the cache (until its first write).
+     */
+    public static void enableForScenario() {
+        TestContext.set(ENABLED, ConfigManager.getBoolean("api.cache.enabled", true));
+        TestContext.set(WRITE_SEEN, false);
+    }
+
+    public static Map<String, Object> stats() {
+        long h = hits.sum();
+        long m = misses.sum();
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("hits", h);
+        stats.put("misses", m);
+        stats.put("hitRatio", h + m == 0 ? 0 : Math.round(h * 1000.0 / (h + m)) / 1000.0);
+        stats.put("bytesSaved", bytesSaved.sum());
+        stats.put("evictions", evictions.sum());
+        synchronized (entries) {
+            stats.put("entries", entries.size());
+        }
+        return stats;
+    }
+
+    public static void clear() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    // ==================== Helpers ====================
+
+    private static boolean readsAllowed() {
+        return Boolean.TRUE.equals(TestContext.get(ENABLED)) && !Boolean.TRUE.equals(TestContext.get(WRITE_SEEN));
+    }
+
+    private static String key(FilterableRequestSpecification requestSpec) {
+        StringBuilder key = new StringBuilder(requestSpec.getURI());
+        Headers headers = requestSpec.getHeaders();
+        for (String name : varyHeaders) {
+            if (headers.hasHeaderWithName(name)) {
+                key.append('|').append(name).append('=').append(String.join(",", headers.getValues(name)));
+            }
+        }
+        return key.toString();
+    }
+
+    private static Entry lookup(String key) {
+        synchronized (entries) {
+            Entry entry = entries.get(key);
+            if (entry == null) return null;
+            if (System.nanoTime() - entry.storedAt > ttlNanos) {
+                entries.remove(key);
+                evictions.increment();
+                return null;
+            }
+            return entry;
+        }
+    }
+
+    private static void store(String key, Entry entry) {
+        synchronized (entries) {
+            entries.put(key, entry);
+            Iterator<Entry> eldest = entries.values().iterator();
+            while (entries.size() > maxEntries) {
+                eldest.next();
+                eldest.remove();
+                evictions.increment();
+            }
+        }
+    }
+
+    /**
+     * Drop entries for the written resource, anything under it and its parent collection.
+     */
+    private static void invalidate(String uri) {
+        String resource = withoutQuery(uri);
+        int slash = resource.lastIndexOf('/');
+        String parent = slash > resource.indexOf("//") + 1 ? resource.substring(0, slash) : resource;
+        synchronized (entries) {
+            if (entries.isEmpty()) return;
+            Iterator<Entry> it = entries.values().iterator();
+            while (it.hasNext()) {
+                String cached = it.next().resource;
+                if (cached.equals(resource) || cached.startsWith(resource + "/") || cached.equals(parent)) {
+                    it.remove();
+                    evictions.increment();
+                }
+            }
+        }
+    }
+
+    private static String withoutQuery(String uri) {
+        int query = uri.indexOf('?');
+        return query < 0 ? uri : uri.substring(0, query);
+    }
+
+    private static final class Entry {
+        final String resource;
+        final int statusCode;
+        final String statusLine;
+        final Headers headers;
+        final String contentType;
+        final byte[] body;
+        final long timeMillis;
+        final long storedAt = System.nanoTime();
+
+        Entry(String resource, Response response, long timeMillis) {
+            this.resource = resource;
+            this.statusCode = response.getStatusCode();
+            this.statusLine = response.getStatusLine();
+            this.headers = response.getHeaders();
+            this.contentType = response.getContentType();
+            this.body = response.asByteArray();
+            this.timeMillis = timeMillis;
+        }
+
+        Response toResponse() {
+            Response response = new ResponseBuilder()
+                    .setStatusCode(statusCode)
+                    .setStatusLine(statusLine)
+                    .setHeaders(headers)
+                    .setContentType(contentType)
+                    .setBody(body)
+                    .build();
+            ResponseTiming.setTime(response, timeMillis);
+            return response;
+        }
+    }
+
+    /**
+     * Serves cached GETs before the metrics filter, so run-wide latencies only count real calls.
+     */
+    private static final class CacheFilter implements Filter {
+
+        @Override
+        public Response filter(FilterableRequestSpecification requestSpec,
+                               FilterableResponseSpecification responseSpec,
+                               FilterContext ctx) {
+            String method = requestSpec.getMethod().toUpperCase();
+            if (WRITES.contains(method)) {
+                if (Boolean.TRUE.equals(TestContext.get(ENABLED))) TestContext.set(WRITE_SEEN, true);
+                invalidate(requestSpec.getURI());
+                return ctx.next(requestSpec, responseSpec);
+            }
+            if (!method.equals("GET") || !readsAllowed()) {
+                return ctx.next(requestSpec, responseSpec);
+            }
+
+            String key = key(requestSpec);
+            Entry cached = lookup(key);
+            if (cached != null) {
+                hits.increment();
+                bytesSaved.add(cached.body.length);
+                log.debug("Response cache hit: {}", key);
+                return cached.toResponse();
+            }
+            misses.increment();
+            long start = System.nanoTime();
+            Response response = ctx.next(requestSpec, responseSpec);
+            // -1 when the transport could not report it; then the time measured here stands in
+            long timeMillis = response.getTime() >= 0 ? response.getTime() : (System.nanoTime() - start) / 1_000_000;
+            int status = response.getStatusCode();
+            String cacheControl = response.getHeader("Cache-Control");
+            if (status >= 200 && status < 300 && (cacheControl == null || !cacheControl.contains("no-store"))) {
+                store(key, new Entry(withoutQuery(requestSpec.getURI()), response, timeMillis));
+            }
+            return response;
+        }
+    }
+}
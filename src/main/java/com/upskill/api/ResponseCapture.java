@@ -0,0 +1,187 @@
+package com.upskill.api;
+
+import com.upskill.config.ConfigManager;
+import io.qameta.allure.Allure;
+import io.qameta.allure.AllureLifecycle;
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ResponseCapture - Request/response capture for logs and Allure, built only when something will use it.
+ *
+ * Bodies are rendered once per response, and only if DEBUG logging is on (and log.request /
+ * log.response allow it) or Allure attachments are enabled (allure.attachments.enabled) with a
+ * test running. Anything larger than api.capture.body.max.bytes is cut and marked as truncated.
+ *
+ * This replaces AllureRestAssured, which rendered full, uncapped HTML copies of every request
+ * and response whether or not a test was running.
+ *
+ * Attachments are registered on the current Allure step right away, but their content is
+ * written to disk by a background thread. When its queue (allure.attachments.queue.size)
+ * is full, or once the writer has been shut down, the calling thread writes the attachment
+ * itself instead of dropping it. Pending writes are drained at JVM shutdown.
+ */
+public final class ResponseCapture {
+
+    private static final Logger log = LoggerFactory.getLogger(ResponseCapture.class);
+
+    private static final Filter FILTER = new CaptureFilter();
+    private static final ThreadLocal<Boolean> disabled = ThreadLocal.withInitial(() -> false);
+    private static final ThreadPoolExecutor writer = createWriter();
+
+    private ResponseCapture() {}
+
+    /**
+     * Filter added to every base request spec.
+     */
+    static Filter filter() {
+        return FILTER;
+    }
+
+    /**
+     * Turn capture off (or back on) for requests made by the current thread, e.g. load workers.
+     */
+    public static void setEnabledOnThisThread(boolean enabled) {
+        disabled.set(!enabled);
+    }
+
+    public static boolean attachmentsEnabled() {
+        return !disabled.get()
+                && ConfigManager.getBoolean("allure.attachments.enabled", true)
+                && Allure.getLifecycle().getCurrentTestCaseOrStep().isPresent();
+    }
+
+    /**
+     * Attach text to the current Allure step; the content is written in the background.
+     */
+    public static void attach(String name, String type, String extension, String content) {
+        AllureLifecycle lifecycle = Allure.getLifecycle();
+        String source = lifecycle.prepareAttachment(name, type, extension);
+        byte[] bytes = content.getBytes(StandardCharsets.UTF_8);
+        writer.execute(() -> lifecycle.writeAttachment(source, new ByteArrayInputStream(bytes)));
+    }
+
+    /**
+     * Body text capped at api.capture.body.max.bytes; pretty-printed when it fits.
+     */
+    private static String render(Response response) {
+        byte[] body = response.asByteArray();
+        int max = maxBytes();
+        if (body.length <= max) {
+            return response.getBody().asPrettyString();
+        }
+        return truncate(body, max);
+    }
+
+    // ==================== Helpers ====================
+
+    private static String truncate(byte[] bytes, int max) {
+        if (bytes.length <= max) return new String(bytes, StandardCharsets.UTF_8);
+        int cut = max;
+        while (cut > 0 && (bytes[cut] & 0xC0) == 0x80) cut--;  // don't split a UTF-8 sequence
+        return new String(bytes, 0, cut, StandardCharsets.UTF_8)
+                + String.format("%n... [truncated: %d of %d bytes shown]", cut, bytes.length);
+    }
+
+    private static int maxBytes() {
+        return ConfigManager.getInt("api.capture.body.max.bytes", 65536);
+    }
+
+    private static ThreadPoolExecutor createWriter() {
+        int queueSize = ConfigManager.getInt("allure.attachments.queue.size", 256);
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueSize),
+                r -> {
+                    Thread t = new Thread(r, "allure-attachment-writer");
+                    t.setDaemon(true);
+                    return t;
+                },
+                // Unlike CallerRunsPolicy, also runs tasks rejected after shutdown: their attachment
+                // file is already referenced by the report
+                (task, pool) -> task.run());
+
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            executor.shutdown();
+            try {
+                if (!executor.awaitTermination(30, TimeUnit.SECONDS)) {
+                    log.warn("Allure attachments still pending at shutdown: {}", executor.getQueue().size());
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }, "allure-attachment-flush"));
+        return executor;
+    }
+
+    /**
+     * Logs the request and response at DEBUG and attaches both to the current Allure step.
+     */
+    private static final class CaptureFilter implements Filter {
+
+        @Override
+        public Response filter(FilterableRequestSpecification requestSpec,
+                               FilterableResponseSpecification responseSpec,
+                               FilterContext ctx) {
+            if (disabled.get()) {
+                return consumed(ctx.next(requestSpec, responseSpec));
+            }
+            boolean debug = log.isDebugEnabled();
+            boolean attach = attachmentsEnabled();
+            if ((debug && ConfigManager.getBoolean("log.request", true)) || attach) {
+                String request = describe(requestSpec);
+                log.debug("Request: {}", request);
+                if (attach) attach("Request", "text/plain", ".txt", request);
+            }
+
+            Response response = consumed(ctx.next(requestSpec, responseSpec));
+
+            boolean logBody = debug && ConfigManager.getBoolean("log.response", true);
+            if (logBody || attach) {
+                String body = render(response);
+                if (logBody) {
+                    log.debug("Response: {} headers={} body={}", response.getStatusLine(),
+                            response.getHeaders().asList(), body);
+                }
+                if (attach) {
+                    boolean json = body.length() > 0 && response.getContentType() != null
+                            && response.getContentType().contains("json")
+                            && response.asByteArray().length <= maxBytes();
+                    attach("Response Body", json ? "application/json" : "text/plain", json ? ".json" : ".txt", body);
+                }
+            }
+            return response;
+        }
+
+        /**
+         * Read the body now: it is buffered by the response anyway, and until it has been read the
+         * pooled connection is not released, even if the caller only looks at the status.
+         */
+        private static Response consumed(Response response) {
+            response.asByteArray();
+            return response;
+        }
+
+        private static String describe(FilterableRequestSpecification requestSpec) {
+            StringBuilder text = new StringBuilder()
+                    .append(requestSpec.getMethod()).append(' ').append(requestSpec.getURI())
+                    .append(System.lineSeparator()).append("Headers: ").append(requestSpec.getHeaders().asList());
+            Object body = requestSpec.getBody();
+            if (body != null) {
+                byte[] bytes = body instanceof byte[] ? (byte[]) body : String.valueOf(body).getBytes(StandardCharsets.UTF_8);
+                text.append(System.lineSeparator()).append("Body: ").append(truncate(bytes, maxBytes()));
+            }
+            return text.toString();
+        }
+    }
+}
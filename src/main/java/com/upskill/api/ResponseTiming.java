@@ -0,0 +1,57 @@
+package com.upskill.api;
+
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.filter.time.TimingFilter;
+import io.restassured.response.Response;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+
+/**
+ * ResponseTiming - Sets Response.getTime() on responses built with ResponseBuilder.
+ *
+ * Used by filters that answer a request themselves (JdkHttpTransport, ResponseCache), whose
+ * responses would otherwise report -1. Response.getTime() reads
+ * TimingFilter.RESPONSE_TIME_MILLISECONDS from the response's filter context properties. The
+ * only way to set them on a built response is
+ * io.restassured.internal.RestAssuredResponseOptionsImpl.setFilterContextProperties, an
+ * internal class (verified against REST Assured 5.4.0, rest-assured.version in the pom). It is
+ * looked up reflectively so a REST Assured upgrade that moves it degrades getTime() to -1
+ * instead of failing every request with a ClassCastException or LinkageError.
+ */
+final class ResponseTiming {
+
+    private static final Logger log = LoggerFactory.getLogger(ResponseTiming.class);
+
+    private static final Method SET_PROPERTIES = resolve();
+
+    private ResponseTiming() {}
+
+    static boolean isAvailable() {
+        return SET_PROPERTIES != null;
+    }
+
+    static void setTime(Response response, long elapsedMillis) {
+        if (SET_PROPERTIES == null) return;
+        try {
+            SET_PROPERTIES.invoke(response, Map.of(TimingFilter.RESPONSE_TIME_MILLISECONDS, elapsedMillis));
+        } catch (ReflectiveOperationException e) {
+            log.debug("Could not set response time: {}", e.getMessage());
+        }
+    }
+
+    private static Method resolve() {
+        try {
+            Method method = Class.forName("io.restassured.internal.RestAssuredResponseOptionsImpl")
+                    .getMethod("setFilterContextProperties", Map.class);
+            if (method.getDeclaringClass().isInstance(new ResponseBuilder().setStatusCode(200).build())) {
+                return method;
+            }
+        } catch (ReflectiveOperationException | LinkageError | RuntimeException e) {
+            log.debug("REST Assured timing hook lookup failed", e);
+        }
+        return null;
+    }
+}
@@ -5,22 +5,33 @@ import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Properties;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 
 /**
  * ConfigManager - Loads environment-specific properties for the API framework.
+ *
+ * Config is loaded once into an immutable snapshot: config-{env}.properties merged with
+ * system-property overrides. Reads are lock-free; typed values (int/long/boolean/Duration)
+ * are parsed on first use and cached in the snapshot. {@link #reload()} builds a new snapshot
+ * and swaps it in atomically, e.g. after changing system properties at runtime.
  */
 public class ConfigManager {
 
     private static final Logger log = LoggerFactory.getLogger(ConfigManager.class);
-    private static Properties properties;
+    private static volatile Snapshot snapshot;
 
     private ConfigManager() {}
 
-    public static synchronized String get(String key) {
-        if (properties == null) loadProperties();
-        String systemProp = System.getProperty(key);
-        return systemProp != null ? systemProp : properties.getProperty(key);
+    public static String get(String key) {
+        return snapshot().values.get(key);
     }
 
     public static String get(String key, String defaultValue) {
@@ -28,8 +39,66 @@ public class ConfigManager {
         return value != null ? value : defaultValue;
     }
 
-    private static void loadProperties() {
-        properties = new Properties();
+    public static int getInt(String key, int defaultValue) {
+        Integer value = snapshot().typed(key, Integer.class, v -> Integer.parseInt(v.trim()));
+        return value != null ? value : defaultValue;
+    }
+
+    public static long getLong(String key, long defaultValue) {
+        Long value = snapshot().typed(key, Long.class, v -> Long.parseLong(v.trim()));
+        return value != null ? value : defaultValue;
+    }
+
+    public static double getDouble(String key, double defaultValue) {
+        Double value = snapshot().typed(key, Double.class, v -> Double.parseDouble(v.trim()));
+        return value != null ? value : defaultValue;
+    }
+
+    public static boolean getBoolean(String key, boolean defaultValue) {
+        Boolean value = snapshot().typed(key, Boolean.class, v -> Boolean.parseBoolean(v.trim()));
+        return value != null ? value : defaultValue;
+    }
+
+    /**
+     * Duration value: plain numbers are milliseconds, otherwise ISO-8601 (e.g. PT30S).
+     */
+    public static Duration getDuration(String key, Duration defaultValue) {
+        Duration value = snapshot().typed(key, Duration.class, ConfigManager::parseDuration);
+        return value != null ? value : defaultValue;
+    }
+
+    /**
+     * All known config keys (file keys plus system properties).
+     */
+    public static Set<String> keys() {
+        return snapshot().keys;
+    }
+
+    /**
+     * Re-read the config file and system properties and atomically replace the current snapshot.
+     */
+    public static void reload() {
+        synchronized (ConfigManager.class) {
+            snapshot = load();
+        }
+    }
+
+    private static Snapshot snapshot() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            synchronized (ConfigManager.class) {
+                current = snapshot;
+                if (current == null) {
+                    current = load();
+                    snapshot = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    private static Snapshot load() {
+        Properties properties = new Properties();
         String env = System.getProperty("env", "qa");
         String fileName = "config-" + env + ".properties";
 
@@ -49,6 +118,54 @@ public class ConfigManager {
             throw new RuntimeException("Could not load config: " + fileName, e);
         }
 
-        log.info("Config loaded. Base URL: {}", properties.getProperty("api.base.url"));
+        // System properties override file values
+        Properties system = System.getProperties();
+        for (String key : system.stringPropertyNames()) {
+            properties.setProperty(key, system.getProperty(key));
+        }
+
+        Map<String, String> values = new HashMap<>();
+        for (String key : properties.stringPropertyNames()) {
+            values.put(key, properties.getProperty(key));
+        }
+
+        log.info("Config loaded. Base URL: {}", values.get("api.base.url"));
+        return new Snapshot(Map.copyOf(values));
+    }
+
+    private static Duration parseDuration(String value) {
+        String trimmed = value.trim();
+        return trimmed.chars().allMatch(Character::isDigit)
+                ? Duration.ofMillis(Long.parseLong(trimmed))
+                : Duration.parse(trimmed);
+    }
+
+    /**
+     * Immutable view of the merged config plus a cache of parsed typed values.
+     */
+    private static final class Snapshot {
+
+        private final Map<String, String> values;
+        private final Set<String> keys;
+        private final Map<Class<?>, Map<String, Object>> typedValues = new ConcurrentHashMap<>();
+
+        private Snapshot(Map<String, String> values) {
+            this.values = values;
+            this.keys = Collections.unmodifiableSortedSet(new TreeSet<>(values.keySet()));
+        }
+
+        private <T> T typed(String key, Class<T> type, Function<String, T> parser) {
+            String raw = values.get(key);
+            if (raw == null) return null;
+            Map<String, Object> cache = typedValues.computeIfAbsent(type, t -> new ConcurrentHashMap<>());
+            return type.cast(cache.computeIfAbsent(key, k -> {
+                try {
+                    return parser.apply(raw);
+                } catch (RuntimeException e) {
+                    throw new IllegalArgumentException(
+                            "Config '" + key + "' is not a valid " + type.getSimpleName() + ": " + raw, e);
+                }
+            }));
+        }
     }
 }
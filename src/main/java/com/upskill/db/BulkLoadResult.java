@@ -0,0 +1,30 @@
+package com.upskill.db;
+
+/**
+ * BulkLoadResult - Outcome of a bulk write: how many rows, how long, and the resulting rate.
+ */
+public class BulkLoadResult {
+
+    private final String method;
+    private final long rows;
+    private final long elapsedNanos;
+
+    public BulkLoadResult(String method, long rows, long elapsedNanos) {
+        this.method = method;
+        this.rows = rows;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public String getMethod() { return method; }
+    public long getRows() { return rows; }
+    public long getElapsedMillis() { return elapsedNanos / 1_000_000; }
+
+    public double getRowsPerSecond() {
+        return elapsedNanos == 0 ? 0 : rows * 1_000_000_000.0 / elapsedNanos;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s: %d rows in %d ms (%.0f rows/s)", method, rows, getElapsedMillis(), getRowsPerSecond());
+    }
+}
@@ -1,12 +1,21 @@
 package com.upskill.db;
 
 import com.upskill.config.ConfigManager;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
 import io.qameta.allure.Step;
+import org.postgresql.PGConnection;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
 import java.sql.*;
 import java.util.*;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * DatabaseUtil - Handles PostgreSQL database interactions.
@@ -16,47 +25,74 @@ import java.util.*;
  *   - Validating API responses against DB records
  *   - Field-level comparisons between API and DB
  *
+ * Connections come from a HikariCP pool (min/max size, alive check on borrow, leak detection).
+ * Each thread borrows one connection and keeps it until {@link #closeConnection()} returns it,
+ * so scenarios running in parallel never share one. The pool itself lives until JVM exit
+ * (or {@link #shutdown()}).
+ *
+ * A scenario can run inside one transaction ({@link #beginScenarioTransaction()}, opened by the
+ * @db hook when db.transaction.per.scenario=true) that is rolled back when it ends, so test
+ * data never needs a cleanup statement and is never visible to other scenarios. Named
+ * savepoints inside it let a scenario undo part of its own changes. On PostgreSQL a failed
+ * statement only undoes itself (driver autosave) instead of aborting the whole transaction.
+ *
+ * Pool settings (config-{env}.properties):
+ *   db.pool.min.idle, db.pool.max.size       - pool size bounds
+ *   db.pool.connection.timeout               - max ms to wait for a connection
+ *   db.pool.validation.timeout               - max ms for the alive check on borrow
+ *   db.pool.leak.detection.ms                - warn when a connection is held longer than this (0 = off)
+ *   db.pool.idle.timeout, db.pool.max.lifetime
+ *   db.pool.retry.ms                         - wait before retrying after the DB was unreachable
+ *   db.prepare.threshold                     - executions of a SQL text before the driver prepares it server-side
+ *   db.statement.cache.size                  - SQL texts whose prepared statements the driver keeps per connection
+ *
  * NOTE: In a real project, update the DB connection details in config-{env}.properties.
  *       If no DB is available, the framework gracefully skips DB steps.
  */
 public class DatabaseUtil {
 
     private static final Logger log = LoggerFactory.getLogger(DatabaseUtil.class);
-    private static Connection connection;
+    private static final ThreadLocal<Connection> connection = new ThreadLocal<>();
+    private static final ThreadLocal<Map<String, Savepoint>> savepoints = new ThreadLocal<>();
+    private static final PoolMetrics poolMetrics = new PoolMetrics();
+    private static volatile HikariDataSource dataSource;
+    private static volatile long retryPoolAfterMillis;
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(DatabaseUtil::shutdown, "db-pool-shutdown"));
+    }
 
     /**
-     * Get a database connection (creates one if needed).
+     * Get this thread's database connection (borrows one from the pool if needed).
      */
     public static Connection getConnection() {
         try {
-            if (connection == null || connection.isClosed()) {
-                String url = ConfigManager.get("db.url");
-                String user = ConfigManager.get("db.username");
-                String pass = ConfigManager.get("db.password");
-
-                log.info("Connecting to database: {}", url);
-                connection = DriverManager.getConnection(url, user, pass);
-                log.info("Database connection established");
+            Connection conn = connection.get();
+            if (conn == null || conn.isClosed()) {
+                HikariDataSource ds = dataSource();
+                if (ds == null) return null;
+                conn = ds.getConnection();
+                connection.set(conn);
             }
+            return conn;
         } catch (SQLException e) {
             log.warn("Could not connect to database: {}. DB steps will be skipped.", e.getMessage());
             return null;
         }
-        return connection;
     }
 
     /**
-     * Execute a SELECT query and return results as a list of maps.
+     * Execute a SELECT query and return the rows. The result is a list of read-only row maps
+     * backed by compact column storage (see {@link QueryResult}).
      */
     @Step("Execute SELECT query: {sql}")
-    public static List<Map<String, Object>> executeQuery(String sql, Object... params) {
+    public static QueryResult executeQuery(String sql, Object... params) {
         log.info("Executing query: {}", sql);
-        List<Map<String, Object>> results = new ArrayList<>();
 
         Connection conn = getConnection();
         if (conn == null) {
             log.warn("No DB connection. Returning empty results.");
-            return results;
+            return QueryResult.empty();
         }
 
         try (PreparedStatement stmt = conn.prepareStatement(sql)) {
@@ -64,23 +100,100 @@ public class DatabaseUtil {
                 stmt.setObject(i + 1, params[i]);
             }
 
+            QueryResult results;
+            try (ResultSet rs = stmt.executeQuery()) {
+                results = QueryResult.from(rs);
+            }
+            log.info("Query returned {} rows", results.size());
+            return results;
+        } catch (SQLException e) {
+            log.error("Query execution failed: {}", e.getMessage());
+            return QueryResult.empty();
+        }
+    }
+
+    /**
+     * Execute a SELECT query and stream its rows instead of loading them all.
+     *
+     * Rows are fetched in windows of db.fetch.size (a server-side cursor in PostgreSQL), so only
+     * one window is held in memory. The stream holds the statement open and MUST be closed:
+     *
+     *   try (Stream&lt;Map&lt;String, Object&gt;&gt; rows = DatabaseUtil.streamQuery(sql)) { ... }
+     *
+     * Without a DB connection the stream is empty; a query that fails to run or to fetch
+     * throws a RuntimeException carrying the SQL error.
+     */
+    public static Stream<Map<String, Object>> streamQuery(String sql, Object... params) {
+        log.info("Streaming query: {}", sql);
+
+        Connection conn = getConnection();
+        if (conn == null) {
+            log.warn("No DB connection. Returning empty stream.");
+            return Stream.empty();
+        }
+
+        boolean restoreAutoCommit = false;
+        PreparedStatement stmt = null;
+        try {
+            // PostgreSQL only uses a cursor (instead of reading the whole result) inside a transaction
+            restoreAutoCommit = conn.getAutoCommit();
+            if (restoreAutoCommit) conn.setAutoCommit(false);
+
+            stmt = conn.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            stmt.setFetchSize(ConfigManager.getInt("db.fetch.size", 1000));
+            for (int i = 0; i < params.length; i++) {
+                stmt.setObject(i + 1, params[i]);
+            }
             ResultSet rs = stmt.executeQuery();
             ResultSetMetaData meta = rs.getMetaData();
-            int columnCount = meta.getColumnCount();
-
-            while (rs.next()) {
-                Map<String, Object> row = new LinkedHashMap<>();
-                for (int i = 1; i <= columnCount; i++) {
-                    row.put(meta.getColumnName(i), rs.getObject(i));
-                }
-                results.add(row);
+            String[] columns = new String[meta.getColumnCount()];
+            for (int i = 0; i < columns.length; i++) {
+                columns[i] = meta.getColumnName(i + 1);
             }
 
-            log.info("Query returned {} rows", results.size());
+            Spliterator<Map<String, Object>> rows = new Spliterators.AbstractSpliterator<>(Long.MAX_VALUE, Spliterator.ORDERED) {
+                @Override
+                public boolean tryAdvance(Consumer<? super Map<String, Object>> action) {
+                    try {
+                        if (!rs.next()) return false;
+                        Map<String, Object> row = new LinkedHashMap<>();
+                        for (int i = 0; i < columns.length; i++) {
+                            row.put(columns[i], rs.getObject(i + 1));
+                        }
+                        action.accept(row);
+                        return true;
+                    } catch (SQLException e) {
+                        throw new RuntimeException("Streaming query failed: " + e.getMessage(), e);
+                    }
+                }
+            };
+            PreparedStatement openStmt = stmt;
+            boolean autoCommit = restoreAutoCommit;
+            return StreamSupport.stream(rows, false).onClose(() -> closeStreamed(conn, openStmt, autoCommit));
         } catch (SQLException e) {
-            log.error("Query execution failed: {}", e.getMessage());
+            closeStreamed(conn, stmt, restoreAutoCommit);
+            // An empty stream would read as "no rows" to callers that compare or count them
+            throw new RuntimeException("Streaming query failed: " + e.getMessage(), e);
         }
-        return results;
+    }
+
+    /**
+     * Run a SELECT query and hand each row to a callback, one fetch window at a time.
+     *
+     * @return number of rows processed
+     */
+    @Step("Execute streaming query: {sql}")
+    public static long forEachRow(String sql, Consumer<Map<String, Object>> callback, Object... params) {
+        long count = 0;
+        try (Stream<Map<String, Object>> rows = streamQuery(sql, params)) {
+            Iterator<Map<String, Object>> it = rows.iterator();
+            while (it.hasNext()) {
+                callback.accept(it.next());
+                count++;
+            }
+        }
+        log.info("Streamed {} rows", count);
+        return count;
     }
 
     /**
@@ -109,32 +222,231 @@ public class DatabaseUtil {
         }
     }
 
+    /**
+     * Execute one INSERT/UPDATE/DELETE for many parameter rows using JDBC batching.
+     * Rows are sent in batches of db.batch.size and committed once at the end
+     * (unless the caller already has a transaction open).
+     */
+    @Step("Execute batch: {sql}")
+    public static BulkLoadResult executeBatch(String sql, List<Object[]> rows) {
+        log.info("Executing batch of {} rows: {}", rows.size(), sql);
+        long start = System.nanoTime();
+
+        Connection conn = getConnection();
+        if (conn == null) {
+            log.warn("No DB connection. Skipping batch.");
+            return new BulkLoadResult("batch", 0, 0);
+        }
+
+        int batchSize = ConfigManager.getInt("db.batch.size", 500);
+        long affected = 0;
+        boolean restoreAutoCommit = false;
+        try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+            restoreAutoCommit = conn.getAutoCommit();
+            if (restoreAutoCommit) conn.setAutoCommit(false);
+
+            int pending = 0;
+            for (Object[] row : rows) {
+                for (int i = 0; i < row.length; i++) {
+                    stmt.setObject(i + 1, row[i]);
+                }
+                stmt.addBatch();
+                if (++pending == batchSize) {
+                    affected += sum(stmt.executeBatch());
+                    pending = 0;
+                }
+            }
+            if (pending > 0) affected += sum(stmt.executeBatch());
+            if (restoreAutoCommit) conn.commit();
+        } catch (SQLException e) {
+            log.error("Batch execution failed: {}", e.getMessage());
+            rollbackQuietly(conn, restoreAutoCommit);
+            affected = 0;
+        } finally {
+            restoreAutoCommit(conn, restoreAutoCommit);
+        }
+
+        BulkLoadResult result = new BulkLoadResult("batch", affected, System.nanoTime() - start);
+        log.info("Batch load {}", result);
+        return result;
+    }
+
+    /**
+     * Bulk-load CSV data (first line = column names) into a table.
+     * Uses PostgreSQL COPY FROM STDIN; other databases fall back to {@link #executeBatch}.
+     */
+    @Step("Bulk load CSV into {table}")
+    public static BulkLoadResult copyIn(String table, Reader csv) {
+        Connection conn = getConnection();
+        if (conn == null) {
+            log.warn("No DB connection. Skipping bulk load.");
+            return new BulkLoadResult("copy", 0, 0);
+        }
+
+        long start = System.nanoTime();
+        try {
+            BufferedReader reader = new BufferedReader(csv);
+            String header = reader.readLine();
+            if (header == null) return new BulkLoadResult("copy", 0, 0);
+            List<String> columns = parseCsvLine(header);
+
+            if (!conn.isWrapperFor(PGConnection.class)) {
+                List<Object[]> rows = new ArrayList<>();
+                for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+                    if (!line.isBlank()) rows.add(parseCsvLine(line).toArray());
+                }
+                String placeholders = String.join(", ", Collections.nCopies(columns.size(), "?"));
+                return executeBatch("INSERT INTO " + table + " (" + String.join(", ", columns) + ") VALUES ("
+                        + placeholders + ")", rows);
+            }
+
+            String copySql = "COPY " + table + " (" + String.join(", ", columns) + ") FROM STDIN WITH (FORMAT csv)";
+            log.info("Bulk loading via: {}", copySql);
+            long rows = conn.unwrap(PGConnection.class).getCopyAPI().copyIn(copySql, reader);
+            BulkLoadResult result = new BulkLoadResult("copy", rows, System.nanoTime() - start);
+            log.info("Bulk load {}", result);
+            return result;
+        } catch (SQLException | IOException e) {
+            log.error("Bulk load into {} failed: {}", table, e.getMessage());
+            return new BulkLoadResult("copy", 0, System.nanoTime() - start);
+        }
+    }
+
     /**
      * Get a single value from a query result.
      */
     @Step("Get single value: {sql}")
     public static Object getSingleValue(String sql, Object... params) {
-        List<Map<String, Object>> results = executeQuery(sql, params);
-        if (!results.isEmpty()) {
-            return results.get(0).values().iterator().next();
+        QueryResult results = executeQuery(sql, params);
+        if (!results.isEmpty() && results.getColumnCount() > 0) {
+            return results.getObject(0, 0);
         }
         return null;
     }
 
+    // ==================== Scenario Transactions ====================
+
+    /**
+     * Start a transaction on this thread's connection that lasts until
+     * {@link #rollbackScenarioTransaction()}. Statements run through DatabaseUtil join it,
+     * including batches and bulk loads, which then no longer commit on their own.
+     *
+     * @return false if no DB is available
+     */
+    public static boolean beginScenarioTransaction() {
+        Connection conn = getConnection();
+        if (conn == null) return false;
+        try {
+            if (!conn.getAutoCommit()) conn.rollback();  // leftovers from an earlier failure
+            conn.setAutoCommit(false);
+            savepoints.set(new LinkedHashMap<>());
+            log.debug("Scenario transaction started");
+            return true;
+        } catch (SQLException e) {
+            log.warn("Could not start scenario transaction: {}. Changes will be committed.", e.getMessage());
+            return false;
+        }
+    }
+
+    public static boolean isInScenarioTransaction() {
+        return savepoints.get() != null;
+    }
+
+    /**
+     * Undo everything since {@link #beginScenarioTransaction()} and go back to autocommit.
+     */
+    public static void rollbackScenarioTransaction() {
+        Connection conn = connection.get();
+        boolean active = savepoints.get() != null;
+        savepoints.remove();
+        if (!active || conn == null) return;
+        try {
+            conn.rollback();
+            conn.setAutoCommit(true);
+            log.debug("Scenario transaction rolled back");
+        } catch (SQLException e) {
+            log.error("Scenario transaction rollback failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Mark a point in the scenario transaction that {@link #rollbackToSavepoint(String)} can return to.
+     * Setting an existing name moves it.
+     */
+    @Step("Set savepoint {name}")
+    public static void setSavepoint(String name) {
+        Map<String, Savepoint> named = requireScenarioTransaction();
+        try {
+            named.remove(name);
+            named.put(name, connection.get().setSavepoint(name));
+        } catch (SQLException e) {
+            throw new IllegalStateException("Could not set savepoint '" + name + "': " + e.getMessage(), e);
+        }
+    }
+
     /**
-     * Close the database connection.
+     * Undo changes made after the savepoint. It stays usable; savepoints set after it are dropped.
+     */
+    @Step("Roll back to savepoint {name}")
+    public static void rollbackToSavepoint(String name) {
+        Map<String, Savepoint> named = requireScenarioTransaction();
+        Savepoint savepoint = named.get(name);
+        if (savepoint == null) {
+            throw new IllegalArgumentException("No savepoint '" + name + "'. Set: " + named.keySet());
+        }
+        try {
+            connection.get().rollback(savepoint);
+            // Later savepoints no longer exist on the server
+            boolean later = false;
+            for (Iterator<String> it = named.keySet().iterator(); it.hasNext(); ) {
+                if (later) {
+                    it.next();
+                    it.remove();
+                } else if (it.next().equals(name)) {
+                    later = true;
+                }
+            }
+            log.info("Rolled back to savepoint '{}'", name);
+        } catch (SQLException e) {
+            throw new IllegalStateException("Could not roll back to savepoint '" + name + "': " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Return this thread's connection to the pool.
      */
     public static void closeConnection() {
+        Connection conn = connection.get();
+        connection.remove();
+        savepoints.remove();
         try {
-            if (connection != null && !connection.isClosed()) {
-                connection.close();
-                log.info("Database connection closed");
+            if (conn != null && !conn.isClosed()) {
+                conn.close();
+                log.debug("Database connection returned to pool");
             }
         } catch (SQLException e) {
             log.error("Error closing DB connection: {}", e.getMessage());
         }
     }
 
+    /**
+     * Close the pool and all its connections. Runs automatically at JVM exit.
+     */
+    public static synchronized void shutdown() {
+        if (dataSource != null) {
+            log.info("Closing DB pool: {}", poolStats());
+            dataSource.close();
+            dataSource = null;
+        }
+    }
+
+    /**
+     * Pool utilization and connection acquisition latency.
+     */
+    public static Map<String, Object> poolStats() {
+        return poolMetrics.snapshot();
+    }
+
     /**
      * Check if DB is available (for graceful degradation).
      */
@@ -142,4 +454,130 @@ public class DatabaseUtil {
         Connection conn = getConnection();
         return conn != null;
     }
+
+    // ==================== Helpers ====================
+
+    private static Map<String, Savepoint> requireScenarioTransaction() {
+        Map<String, Savepoint> named = savepoints.get();
+        if (named == null) {
+            throw new IllegalStateException("Savepoints need a scenario transaction (tag the scenario @db)");
+        }
+        return named;
+    }
+
+    private static long sum(int[] counts) {
+        long total = 0;
+        for (int count : counts) {
+            // SUCCESS_NO_INFO (-2) means the row was written but the driver didn't count it
+            total += count == Statement.SUCCESS_NO_INFO ? 1 : Math.max(count, 0);
+        }
+        return total;
+    }
+
+    private static void rollbackQuietly(Connection conn, boolean ownTransaction) {
+        if (!ownTransaction) return;
+        try {
+            conn.rollback();
+        } catch (SQLException e) {
+            log.error("Rollback failed: {}", e.getMessage());
+        }
+    }
+
+    private static void restoreAutoCommit(Connection conn, boolean restore) {
+        if (!restore) return;
+        try {
+            conn.setAutoCommit(true);
+        } catch (SQLException e) {
+            log.error("Could not restore autocommit: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Split one CSV line; supports double-quoted fields with "" escapes.
+     */
+    static List<String> parseCsvLine(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    private static void closeStreamed(Connection conn, PreparedStatement stmt, boolean restoreAutoCommit) {
+        try {
+            if (stmt != null) stmt.close();  // also closes its ResultSet
+            if (restoreAutoCommit) conn.setAutoCommit(true);
+        } catch (SQLException e) {
+            log.error("Error closing streamed query: {}", e.getMessage());
+        }
+    }
+
+    private static HikariDataSource dataSource() {
+        HikariDataSource ds = dataSource;
+        if (ds != null) return ds;
+        // After a failed attempt, don't pay for another connect until the retry interval passes
+        if (System.currentTimeMillis() < retryPoolAfterMillis) return null;
+        synchronized (DatabaseUtil.class) {
+            if (dataSource == null && System.currentTimeMillis() >= retryPoolAfterMillis) {
+                String url = ConfigManager.get("db.url");
+                log.info("Creating DB connection pool: {}", url);
+                HikariConfig config = new HikariConfig();
+                config.setPoolName("db-pool");
+                config.setJdbcUrl(url);
+                config.setUsername(ConfigManager.get("db.username"));
+                config.setPassword(ConfigManager.get("db.password"));
+                String driver = ConfigManager.get("db.driver");
+                if (driver != null) config.setDriverClassName(driver);
+                config.setMinimumIdle(ConfigManager.getInt("db.pool.min.idle", 1));
+                config.setMaximumPoolSize(ConfigManager.getInt("db.pool.max.size", 10));
+                config.setConnectionTimeout(ConfigManager.getLong("db.pool.connection.timeout", 5000));
+                config.setValidationTimeout(ConfigManager.getLong("db.pool.validation.timeout", 2000));
+                config.setLeakDetectionThreshold(ConfigManager.getLong("db.pool.leak.detection.ms", 60000));
+                config.setIdleTimeout(ConfigManager.getLong("db.pool.idle.timeout", 300000));
+                config.setMaxLifetime(ConfigManager.getLong("db.pool.max.lifetime", 1800000));
+                config.setMetricsTrackerFactory(poolMetrics);
+                if (url != null && url.startsWith("jdbc:postgresql:")) {
+                    // Let the driver collapse batched INSERTs into multi-row statements
+                    config.addDataSourceProperty("reWriteBatchedInserts", "true");
+                    // Inside a transaction, a failed statement rolls back only itself (savepoint sent with it)
+                    config.addDataSourceProperty("autosave", "always");
+                    // The driver keeps server-side prepared statements per physical connection, so
+                    // repeated SQL skips parsing and planning even though each call closes its statement
+                    config.addDataSourceProperty("prepareThreshold", ConfigManager.get("db.prepare.threshold", "5"));
+                    config.addDataSourceProperty("preparedStatementCacheQueries", ConfigManager.get("db.statement.cache.size", "256"));
+                }
+                // Fail fast when the DB is unreachable so DB steps can be skipped quickly
+                config.setInitializationFailTimeout(1);
+                try {
+                    dataSource = new HikariDataSource(config);
+                    log.info("DB connection pool ready");
+                } catch (RuntimeException e) {
+                    log.warn("Could not create DB pool: {}. DB steps will be skipped.", e.getMessage());
+                    retryPoolAfterMillis = System.currentTimeMillis() + ConfigManager.getLong("db.pool.retry.ms", 30000);
+                    return null;
+                }
+            }
+            return dataSource;
+        }
+    }
 }
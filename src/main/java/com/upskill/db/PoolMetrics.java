@@ -0,0 +1,61 @@
+package com.upskill.db;
+
+import com.zaxxer.hikari.metrics.IMetricsTracker;
+import com.zaxxer.hikari.metrics.MetricsTrackerFactory;
+import com.zaxxer.hikari.metrics.PoolStats;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * PoolMetrics - Connection acquisition metrics for the DatabaseUtil pool.
+ *
+ * Plugged into HikariCP as its metrics tracker; records how long callers wait to borrow
+ * a connection, how many borrows timed out, and the pool's current utilization.
+ */
+class PoolMetrics implements MetricsTrackerFactory {
+
+    private final LongAdder acquisitions = new LongAdder();
+    private final LongAdder acquisitionNanos = new LongAdder();
+    private final LongAccumulator maxAcquisitionNanos = new LongAccumulator(Math::max, 0);
+    private final LongAdder timeouts = new LongAdder();
+    private volatile PoolStats poolStats;
+
+    @Override
+    public IMetricsTracker create(String poolName, PoolStats poolStats) {
+        this.poolStats = poolStats;
+        return new IMetricsTracker() {
+            @Override
+            public void recordConnectionAcquiredNanos(long elapsedNanos) {
+                acquisitions.increment();
+                acquisitionNanos.add(elapsedNanos);
+                maxAcquisitionNanos.accumulate(elapsedNanos);
+            }
+
+            @Override
+            public void recordConnectionTimeout() {
+                timeouts.increment();
+            }
+        };
+    }
+
+    Map<String, Object> snapshot() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        PoolStats stats = poolStats;
+        if (stats != null) {
+            result.put("active", stats.getActiveConnections());
+            result.put("idle", stats.getIdleConnections());
+            result.put("total", stats.getTotalConnections());
+            result.put("pending", stats.getPendingThreads());
+            result.put("max", stats.getMaxConnections());
+        }
+        long count = acquisitions.sum();
+        result.put("acquisitions", count);
+        result.put("acquisitionAvgMs", count == 0 ? 0.0 : acquisitionNanos.sum() / (double) count / 1_000_000);
+        result.put("acquisitionMaxMs", maxAcquisitionNanos.get() / 1_000_000.0);
+        result.put("acquisitionTimeouts", timeouts.sum());
+        return result;
+    }
+}
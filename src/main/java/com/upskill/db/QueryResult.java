@@ -0,0 +1,296 @@
+package com.upskill.db;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.AbstractList;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * QueryResult - Compact, read-only result of a SELECT.
+ *
+ * Values are stored column by column: INTEGER, BIGINT and DOUBLE columns in primitive arrays
+ * (with a null bitmap), everything else in an Object array. Column names are held once in a
+ * shared header instead of once per row. Each row is still available as a read-only
+ * {@code Map<String, Object>} view in column order, with the same values the driver's
+ * getObject would return.
+ */
+public class QueryResult extends AbstractList<Map<String, Object>> {
+
+    private static final QueryResult EMPTY = new QueryResult(new String[0], new Column[0], 0);
+
+    private final String[] names;
+    private final Map<String, Integer> index;
+    private final Column[] columns;
+    private final int rowCount;
+
+    private QueryResult(String[] names, Column[] columns, int rowCount) {
+        this.names = names;
+        this.columns = columns;
+        this.rowCount = rowCount;
+        this.index = new HashMap<>(names.length * 2);
+        for (int i = 0; i < names.length; i++) {
+            index.put(names[i], i);  // duplicate names resolve to the last column, as a map would
+        }
+    }
+
+    public static QueryResult empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Read every remaining row of the result set. The result set is not closed.
+     */
+    public static QueryResult from(ResultSet rs) throws SQLException {
+        ResultSetMetaData meta = rs.getMetaData();
+        int columnCount = meta.getColumnCount();
+        String[] names = new String[columnCount];
+        Column[] columns = new Column[columnCount];
+        for (int i = 0; i < columnCount; i++) {
+            names[i] = meta.getColumnName(i + 1);
+            columns[i] = Column.forClassName(meta.getColumnClassName(i + 1));
+        }
+
+        int rows = 0;
+        while (rs.next()) {
+            for (int i = 0; i < columnCount; i++) {
+                columns[i].read(rs, i + 1, rows);
+            }
+            rows++;
+        }
+        return new QueryResult(names, columns, rows);
+    }
+
+    // ==================== Columns ====================
+
+    public List<String> getColumnNames() {
+        return Collections.unmodifiableList(Arrays.asList(names));
+    }
+
+    public int getColumnCount() {
+        return names.length;
+    }
+
+    public Object getObject(int row, int column) {
+        checkRow(row);
+        return columns[column].get(row);
+    }
+
+    public Object getObject(int row, String column) {
+        return getObject(row, columnIndex(column));
+    }
+
+    public boolean isNull(int row, String column) {
+        return getObject(row, column) == null;
+    }
+
+    /**
+     * Read an integer value without boxing; SQL NULL reads as 0 (see {@link #isNull}).
+     */
+    public int getInt(int row, String column) {
+        checkRow(row);
+        Column col = columns[columnIndex(column)];
+        if (col instanceof IntColumn) return ((IntColumn) col).values[row];
+        Object value = col.get(row);
+        return value == null ? 0 : ((Number) value).intValue();
+    }
+
+    public long getLong(int row, String column) {
+        checkRow(row);
+        Column col = columns[columnIndex(column)];
+        if (col instanceof LongColumn) return ((LongColumn) col).values[row];
+        if (col instanceof IntColumn) return ((IntColumn) col).values[row];
+        Object value = col.get(row);
+        return value == null ? 0 : ((Number) value).longValue();
+    }
+
+    public double getDouble(int row, String column) {
+        checkRow(row);
+        Column col = columns[columnIndex(column)];
+        if (col instanceof DoubleColumn) return ((DoubleColumn) col).values[row];
+        Object value = col.get(row);
+        return value == null ? 0 : ((Number) value).doubleValue();
+    }
+
+    // ==================== List view ====================
+
+    @Override
+    public Map<String, Object> get(int row) {
+        checkRow(row);
+        return new RowView(row);
+    }
+
+    @Override
+    public int size() {
+        return rowCount;
+    }
+
+    private int columnIndex(String column) {
+        Integer i = index.get(column);
+        if (i == null) throw new IllegalArgumentException("No column '" + column + "' in " + Arrays.toString(names));
+        return i;
+    }
+
+    private void checkRow(int row) {
+        if (row < 0 || row >= rowCount) throw new IndexOutOfBoundsException("Row " + row + " of " + rowCount);
+    }
+
+    /**
+     * Read-only map over one row, iterating in column order.
+     */
+    private final class RowView extends AbstractMap<String, Object> {
+
+        private final int row;
+
+        RowView(int row) {
+            this.row = row;
+        }
+
+        @Override
+        public Object get(Object key) {
+            Integer i = index.get(key);
+            return i == null ? null : columns[i].get(row);
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return index.containsKey(key);
+        }
+
+        @Override
+        public int size() {
+            return index.size();
+        }
+
+        @Override
+        public Set<Entry<String, Object>> entrySet() {
+            return new AbstractSet<>() {
+                @Override
+                public int size() {
+                    return index.size();
+                }
+
+                @Override
+                public Iterator<Entry<String, Object>> iterator() {
+                    return new Iterator<>() {
+                        private int next = advance(0);
+
+                        private int advance(int from) {
+                            while (from < names.length && index.get(names[from]) != from) from++;
+                            return from;
+                        }
+
+                        @Override
+                        public boolean hasNext() {
+                            return next < names.length;
+                        }
+
+                        @Override
+                        public Entry<String, Object> next() {
+                            if (!hasNext()) throw new NoSuchElementException();
+                            int i = next;
+                            next = advance(i + 1);
+                            return new SimpleImmutableEntry<>(names[i], columns[i].get(row));
+                        }
+                    };
+                }
+            };
+        }
+    }
+
+    // ==================== Column storage ====================
+
+    private abstract static class Column {
+
+        static Column forClassName(String className) {
+            if (Integer.class.getName().equals(className)) return new IntColumn();
+            if (Long.class.getName().equals(className)) return new LongColumn();
+            if (Double.class.getName().equals(className)) return new DoubleColumn();
+            return new ObjectColumn();
+        }
+
+        abstract void read(ResultSet rs, int column, int row) throws SQLException;
+
+        abstract Object get(int row);
+
+        static int grow(int length, int row) {
+            return row < length ? length : Math.max(16, length + (length >> 1));
+        }
+    }
+
+    private static final class IntColumn extends Column {
+        int[] values = new int[16];
+        final BitSet nulls = new BitSet();
+
+        @Override
+        void read(ResultSet rs, int column, int row) throws SQLException {
+            if (row == values.length) values = Arrays.copyOf(values, grow(values.length, row));
+            values[row] = rs.getInt(column);
+            if (rs.wasNull()) nulls.set(row);
+        }
+
+        @Override
+        Object get(int row) {
+            return nulls.get(row) ? null : values[row];
+        }
+    }
+
+    private static final class LongColumn extends Column {
+        long[] values = new long[16];
+        final BitSet nulls = new BitSet();
+
+        @Override
+        void read(ResultSet rs, int column, int row) throws SQLException {
+            if (row == values.length) values = Arrays.copyOf(values, grow(values.length, row));
+            values[row] = rs.getLong(column);
+            if (rs.wasNull()) nulls.set(row);
+        }
+
+        @Override
+        Object get(int row) {
+            return nulls.get(row) ? null : values[row];
+        }
+    }
+
+    private static final class DoubleColumn extends Column {
+        double[] values = new double[16];
+        final BitSet nulls = new BitSet();
+
+        @Override
+        void read(ResultSet rs, int column, int row) throws SQLException {
+            if (row == values.length) values = Arrays.copyOf(values, grow(values.length, row));
+            values[row] = rs.getDouble(column);
+            if (rs.wasNull()) nulls.set(row);
+        }
+
+        @Override
+        Object get(int row) {
+            return nulls.get(row) ? null : values[row];
+        }
+    }
+
+    private static final class ObjectColumn extends Column {
+        Object[] values = new Object[16];
+
+        @Override
+        void read(ResultSet rs, int column, int row) throws SQLException {
+            if (row == values.length) values = Arrays.copyOf(values, grow(values.length, row));
+            values[row] = rs.getObject(column);
+        }
+
+        @Override
+        Object get(int row) {
+            return values[row];
+        }
+    }
+}
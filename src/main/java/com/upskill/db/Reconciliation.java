@@ -0,0 +1,346 @@
+package com.upskill.db;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.upskill.config.ConfigManager;
+import io.qameta.allure.Step;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+/**
+ * Reconciliation - Compares a whole API collection with a table in one pass per side.
+ *
+ * The API's JSON array is read with a streaming parser and only the key and compared fields of
+ * each element are kept, in a hash table by key. The table is then read through a streaming
+ * query (one fetch window in memory at a time), and each DB row is looked up in that hash table
+ * (a hash join). Rows are compared in chunks on db.reconcile.threads worker threads (default:
+ * one per core), with at most two chunks per worker queued. Memory therefore grows only with
+ * the API side's compared values, never with the table.
+ *
+ * Fields are given as "name" (same name in the JSON and the table) or "jsonPath=column",
+ * e.g. "address.city=city". Values are compared as text; numbers are compared by value,
+ * so 5, 5.0 and "5" (numeric column) match.
+ *
+ * Every difference is counted. The first db.reconcile.max.reported are also kept in full for
+ * the report.
+ */
+public final class Reconciliation {
+
+    private static final Logger log = LoggerFactory.getLogger(Reconciliation.class);
+
+    private static final ObjectMapper mapper = new ObjectMapper();
+    private static final int CHUNK_ROWS = 1000;
+
+    private Reconciliation() {}
+
+    /**
+     * Reconcile a top-level JSON array (e.g. a GET /users body) with a table.
+     *
+     * @param key    key field, "id" or "jsonPath=column"
+     * @param fields compared fields, each "name" or "jsonPath=column"
+     */
+    @Step("Reconcile API collection with table {table} on {key}")
+    public static ReconciliationResult reconcile(byte[] apiJsonArray, String table, String key, List<String> fields) {
+        return reconcile(new ByteArrayInputStream(apiJsonArray), table, key, fields);
+    }
+
+    public static ReconciliationResult reconcile(InputStream apiJsonArray, String table, String key, List<String> fields) {
+        long start = System.nanoTime();
+        Mapping keyMapping = Mapping.parse(key);
+        List<Mapping> mappings = new ArrayList<>();
+        for (String field : fields) mappings.add(Mapping.parse(field));
+
+        ApiSide api = readApi(apiJsonArray, keyMapping, mappings);
+        log.info("Reconciling {} API records with table {} on {}", api.records.size(), table, keyMapping.column);
+
+        Comparison comparison = new Comparison(api, mappings, ConfigManager.getInt("db.reconcile.max.reported", 50));
+        StringBuilder sql = new StringBuilder("SELECT ").append(keyMapping.column);
+        for (Mapping m : mappings) sql.append(", ").append(m.column);
+        sql.append(" FROM ").append(table);
+
+        int threads = Math.max(1, ConfigManager.getInt("db.reconcile.threads", Runtime.getRuntime().availableProcessors()));
+        ExecutorService workers = threads > 1 ? Executors.newFixedThreadPool(threads, Reconciliation::workerThread) : null;
+        Semaphore queued = new Semaphore(threads * 2);
+        List<Future<?>> pending = new ArrayList<>();
+        long dbRows = 0;
+        try (Stream<Map<String, Object>> rows = DatabaseUtil.streamQuery(sql.toString())) {
+            List<Object[]> chunk = new ArrayList<>(CHUNK_ROWS);
+            Iterator<Map<String, Object>> it = rows.iterator();
+            while (it.hasNext()) {
+                chunk.add(toValues(it.next(), keyMapping, mappings));
+                dbRows++;
+                if (chunk.size() == CHUNK_ROWS || !it.hasNext()) {
+                    submit(comparison, chunk, workers, queued, pending);
+                    chunk = new ArrayList<>(CHUNK_ROWS);
+                }
+            }
+            for (Future<?> future : pending) future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while reconciling with " + table, e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Reconciliation with " + table + " failed: " + e.getCause().getMessage(), e.getCause());
+        } finally {
+            if (workers != null) workers.shutdownNow();
+        }
+
+        ReconciliationResult result = comparison.finish(table, dbRows, System.nanoTime() - start);
+        log.info("{}", result.isConsistent() ? result.summary() : result.summary().lines().findFirst().orElse(""));
+        return result;
+    }
+
+    // ==================== Helpers ====================
+
+    private static void submit(Comparison comparison, List<Object[]> chunk, ExecutorService workers,
+                               Semaphore queued, List<Future<?>> pending) throws InterruptedException {
+        if (workers == null) {
+            comparison.compare(chunk);
+            return;
+        }
+        queued.acquire();  // keeps at most 2 chunks per worker in memory
+        pending.add(workers.submit(() -> {
+            try {
+                comparison.compare(chunk);
+            } finally {
+                queued.release();
+            }
+        }));
+    }
+
+    private static ApiSide readApi(InputStream body, Mapping keyMapping, List<Mapping> mappings) {
+        ApiSide api = new ApiSide();
+        try (JsonParser parser = mapper.getFactory().createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new IllegalArgumentException("API body is not a JSON array");
+            }
+            JsonToken token;
+            while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+                if (token == null) throw new IllegalArgumentException("API JSON array is not terminated");
+                JsonNode element = mapper.readTree(parser);  // one element at a time
+                String key = normalize(at(element, keyMapping.path));
+                if (key == null) {
+                    api.missingKey++;
+                    continue;
+                }
+                String[] values = new String[mappings.size()];
+                for (int i = 0; i < values.length; i++) {
+                    values[i] = normalize(at(element, mappings.get(i).path));
+                }
+                if (api.records.putIfAbsent(key, new ApiRecord(api.records.size(), values)) != null) {
+                    api.duplicateKeys++;
+                }
+            }
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Could not read API collection: " + e.getMessage(), e);
+        }
+        return api;
+    }
+
+    private static JsonNode at(JsonNode element, String[] path) {
+        JsonNode node = element;
+        for (String segment : path) {
+            if (node == null) return null;
+            node = node.get(segment);
+        }
+        return node;
+    }
+
+    private static Object[] toValues(Map<String, Object> row, Mapping keyMapping, List<Mapping> mappings) {
+        Object[] values = new Object[mappings.size() + 1];
+        values[0] = normalize(column(row, keyMapping.column));
+        for (int i = 0; i < mappings.size(); i++) {
+            values[i + 1] = normalize(column(row, mappings.get(i).column));
+        }
+        return values;
+    }
+
+    private static Object column(Map<String, Object> row, String column) {
+        Object value = row.get(column);
+        // Drivers differ on the case of unquoted column labels (PostgreSQL lower, H2 upper)
+        if (value == null && !row.containsKey(column)) {
+            for (Map.Entry<String, Object> entry : row.entrySet()) {
+                if (entry.getKey().equalsIgnoreCase(column)) return entry.getValue();
+            }
+        }
+        return value;
+    }
+
+    private static String normalize(JsonNode node) {
+        if (node == null || node.isNull() || node.isMissingNode()) return null;
+        if (node.isNumber()) return canonicalNumber(node.decimalValue());
+        if (node.isTextual()) return node.textValue();
+        return node.toString();
+    }
+
+    private static String normalize(Object value) {
+        if (value == null) return null;
+        if (value instanceof Number) return canonicalNumber(new BigDecimal(value.toString()));
+        return value.toString();
+    }
+
+    private static String canonicalNumber(BigDecimal number) {
+        return number.signum() == 0 ? "0" : number.stripTrailingZeros().toPlainString();
+    }
+
+    private static Thread workerThread(Runnable r) {
+        Thread t = new Thread(r, "reconcile-worker");
+        t.setDaemon(true);
+        return t;
+    }
+
+    /**
+     * A compared field: dotted JSON path on the API side, column name on the DB side.
+     */
+    private static final class Mapping {
+        final String name;
+        final String[] path;
+        final String column;
+
+        private Mapping(String name, String[] path, String column) {
+            this.name = name;
+            this.path = path;
+            this.column = column;
+        }
+
+        static Mapping parse(String spec) {
+            String trimmed = spec.trim();
+            int eq = trimmed.indexOf('=');
+            String json = eq < 0 ? trimmed : trimmed.substring(0, eq).trim();
+            String column = eq < 0 ? trimmed : trimmed.substring(eq + 1).trim();
+            return new Mapping(json, json.split("\\."), column);
+        }
+    }
+
+    private static final class ApiRecord {
+        final int index;
+        final String[] values;
+
+        ApiRecord(int index, String[] values) {
+            this.index = index;
+            this.values = values;
+        }
+    }
+
+    private static final class ApiSide {
+        final Map<String, ApiRecord> records = new HashMap<>();
+        long missingKey;
+        long duplicateKeys;
+    }
+
+    /**
+     * Shared by the workers: the API hash table is only read, everything else is atomic.
+     */
+    private static final class Comparison {
+        private final ApiSide api;
+        private final List<Mapping> mappings;
+        private final int maxReported;
+        private final AtomicLongArray seen;
+        private final LongAdder matched = new LongAdder();
+        private final LongAdder withDifferences = new LongAdder();
+        private final LongAdder missingInApi = new LongAdder();
+        private final LongAdder duplicates = new LongAdder();
+        private final LongAdder[] fieldMismatches;
+        private final Queue<String> samples = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger reported = new AtomicInteger();
+
+        Comparison(ApiSide api, List<Mapping> mappings, int maxReported) {
+            this.api = api;
+            this.mappings = mappings;
+            this.maxReported = maxReported;
+            this.seen = new AtomicLongArray((api.records.size() + 63) / 64);
+            this.fieldMismatches = new LongAdder[mappings.size()];
+            for (int i = 0; i < fieldMismatches.length; i++) fieldMismatches[i] = new LongAdder();
+        }
+
+        void compare(List<Object[]> rows) {
+            for (Object[] row : rows) {
+                String key = (String) row[0];
+                ApiRecord record = key == null ? null : api.records.get(key);
+                if (record == null) {
+                    missingInApi.increment();
+                    report("key " + key + ": in DB, not in API");
+                    continue;
+                }
+                if (!markSeen(record.index)) {
+                    duplicates.increment();
+                    report("key " + key + ": more than one DB row");
+                    continue;
+                }
+                matched.increment();
+                boolean differs = false;
+                for (int i = 0; i < record.values.length; i++) {
+                    Object dbValue = row[i + 1];
+                    if (!Objects.equals(record.values[i], dbValue)) {
+                        differs = true;
+                        fieldMismatches[i].increment();
+                        report("key " + key + ": " + mappings.get(i).name + " API='" + record.values[i] + "' DB='" + dbValue + "'");
+                    }
+                }
+                if (differs) withDifferences.increment();
+            }
+        }
+
+        ReconciliationResult finish(String table, long dbRows, long elapsedNanos) {
+            long missingInDb = 0;
+            for (Map.Entry<String, ApiRecord> entry : api.records.entrySet()) {
+                int index = entry.getValue().index;
+                if ((seen.get(index >>> 6) & (1L << index)) == 0) {
+                    missingInDb++;
+                    report("key " + entry.getKey() + ": in API, not in DB");
+                }
+            }
+            if (api.missingKey > 0) report(api.missingKey + " API records without a key were skipped");
+            if (api.duplicateKeys > 0) report(api.duplicateKeys + " API records repeat an earlier key and were skipped");
+
+            Map<String, Long> perField = new LinkedHashMap<>();
+            for (int i = 0; i < mappings.size(); i++) {
+                perField.put(mappings.get(i).name, fieldMismatches[i].sum());
+            }
+            long apiRecords = api.records.size() + api.missingKey + api.duplicateKeys;
+            return new ReconciliationResult(table, apiRecords, dbRows, matched.sum(), withDifferences.sum(), perField,
+                    missingInDb, missingInApi.sum(), duplicates.sum() + api.duplicateKeys, new ArrayList<>(samples), elapsedNanos);
+        }
+
+        /**
+         * Mark an API record as found; false if an earlier DB row already had its key.
+         */
+        private boolean markSeen(int index) {
+            int word = index >>> 6;
+            long bit = 1L << index;
+            while (true) {
+                long current = seen.get(word);
+                if ((current & bit) != 0) return false;
+                if (seen.compareAndSet(word, current, current | bit)) return true;
+            }
+        }
+
+        private void report(String difference) {
+            if (reported.getAndIncrement() < maxReported) samples.add(difference);
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.upskill.db;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * ReconciliationResult - Outcome of comparing an API collection with a table: counts per kind of
+ * difference, mismatches per field, and the first few differences in full.
+ */
+public class ReconciliationResult {
+
+    private final String table;
+    private final long apiRecords;
+    private final long dbRows;
+    private final long matched;
+    private final long recordsWithDifferences;
+    private final Map<String, Long> fieldMismatches;
+    private final long missingInDb;
+    private final long missingInApi;
+    private final long duplicateKeys;
+    private final List<String> samples;
+    private final long elapsedNanos;
+
+    ReconciliationResult(String table, long apiRecords, long dbRows, long matched, long recordsWithDifferences,
+                         Map<String, Long> fieldMismatches, long missingInDb, long missingInApi, long duplicateKeys,
+                         List<String> samples, long elapsedNanos) {
+        this.table = table;
+        this.apiRecords = apiRecords;
+        this.dbRows = dbRows;
+        this.matched = matched;
+        this.recordsWithDifferences = recordsWithDifferences;
+        this.fieldMismatches = Collections.unmodifiableMap(new LinkedHashMap<>(fieldMismatches));
+        this.missingInDb = missingInDb;
+        this.missingInApi = missingInApi;
+        this.duplicateKeys = duplicateKeys;
+        this.samples = Collections.unmodifiableList(samples);
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public boolean isConsistent() {
+        return recordsWithDifferences == 0 && missingInDb == 0 && missingInApi == 0 && duplicateKeys == 0;
+    }
+
+    public long getApiRecords() { return apiRecords; }
+    public long getDbRows() { return dbRows; }
+
+    /** Records found on both sides, whether or not their fields agree. */
+    public long getMatched() { return matched; }
+    public long getRecordsWithDifferences() { return recordsWithDifferences; }
+
+    /** Mismatch count per compared field, in the order the fields were given. */
+    public Map<String, Long> getFieldMismatches() { return fieldMismatches; }
+    public long getMissingInDb() { return missingInDb; }
+    public long getMissingInApi() { return missingInApi; }
+
+    /** Records whose key was already used by an earlier record on the same side (API or DB). */
+    public long getDuplicateKeys() { return duplicateKeys; }
+
+    /** The first differences found (up to db.reconcile.max.reported), one line each. */
+    public List<String> getSamples() { return samples; }
+    public long getElapsedMillis() { return elapsedNanos / 1_000_000; }
+
+    /**
+     * Multi-line report: counts, then per-field mismatches, then sample differences.
+     */
+    public String summary() {
+        StringBuilder out = new StringBuilder();
+        out.append(String.format("API vs %s: %d API records, %d DB rows, %d matched, %d with differences, "
+                        + "%d missing in DB, %d missing in API, %d duplicate keys (%d ms)",
+                table, apiRecords, dbRows, matched, recordsWithDifferences, missingInDb, missingInApi,
+                duplicateKeys, getElapsedMillis()));
+        fieldMismatches.forEach((field, count) -> {
+            if (count > 0) out.append("\n  ").append(field).append(": ").append(count).append(" mismatches");
+        });
+        if (!samples.isEmpty()) {
+            out.append("\nFirst ").append(samples.size()).append(" differences:");
+            samples.forEach(sample -> out.append("\n  ").append(sample));
+        }
+        return out.toString();
+    }
+
+    @Override
+    public String toString() {
+        return summary();
+    }
+}
@@ -0,0 +1,57 @@
+package com.upskill.load;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * EndpointStats - Latencies and errors recorded for one endpoint during a load run.
+ *
+ * Same recording as ApiMetrics: a lock-free HdrHistogram at microsecond resolution.
+ */
+public class EndpointStats {
+
+    private final String key;
+    private final ConcurrentHistogram histogram = new ConcurrentHistogram(3);
+    private final LongAdder errors = new LongAdder();
+
+    EndpointStats(String key) {
+        this.key = key;
+    }
+
+    void record(long latencyNanos, boolean error) {
+        histogram.recordValue(Math.max(1, latencyNanos / 1000));
+        if (error) errors.increment();
+    }
+
+    public String getKey() { return key; }
+
+    public long getCount() { return histogram.getTotalCount(); }
+
+    public long getErrors() { return errors.sum(); }
+
+    public double getErrorRate() {
+        long count = getCount();
+        return count == 0 ? 0 : (double) getErrors() / count;
+    }
+
+    /**
+     * Latency at the given percentile (0-100), in milliseconds.
+     */
+    public double percentileMillis(double percentile) {
+        Histogram copy = histogram.copy();
+        if (copy.getTotalCount() == 0) return 0;
+        return (percentile >= 100 ? copy.getMaxValue() : copy.getValueAtPercentile(percentile)) / 1000.0;
+    }
+
+    public double meanMillis() {
+        Histogram copy = histogram.copy();
+        return copy.getTotalCount() == 0 ? 0 : copy.getMean() / 1000.0;
+    }
+
+    void addAll(EndpointStats other) {
+        histogram.add(other.histogram.copy());
+        errors.add(other.getErrors());
+    }
+}
@@ -0,0 +1,51 @@
+package com.upskill.load;
+
+import java.time.Duration;
+
+/**
+ * LoadProfile - How a flow is driven during a load run.
+ *
+ *   CLOSED: a fixed number of virtual users, each repeating the flow back to back.
+ *   OPEN:   new flow iterations start at a constant rate, however slow the server gets.
+ */
+public class LoadProfile {
+
+    public enum Model { CLOSED, OPEN }
+
+    private final Model model;
+    private final int users;
+    private final double ratePerSecond;
+    private final Duration duration;
+
+    private LoadProfile(Model model, int users, double ratePerSecond, Duration duration) {
+        if (duration.isZero() || duration.isNegative()) {
+            throw new IllegalArgumentException("Load duration must be positive: " + duration);
+        }
+        this.model = model;
+        this.users = users;
+        this.ratePerSecond = ratePerSecond;
+        this.duration = duration;
+    }
+
+    public static LoadProfile closed(int users, Duration duration) {
+        if (users < 1) throw new IllegalArgumentException("Need at least one user, got " + users);
+        return new LoadProfile(Model.CLOSED, users, 0, duration);
+    }
+
+    public static LoadProfile open(double ratePerSecond, Duration duration) {
+        if (ratePerSecond <= 0) throw new IllegalArgumentException("Rate must be positive, got " + ratePerSecond);
+        return new LoadProfile(Model.OPEN, 0, ratePerSecond, duration);
+    }
+
+    public Model getModel() { return model; }
+    public int getUsers() { return users; }
+    public double getRatePerSecond() { return ratePerSecond; }
+    public Duration getDuration() { return duration; }
+
+    @Override
+    public String toString() {
+        return model == Model.CLOSED
+                ? String.format("closed: %d users for %ds", users, duration.getSeconds())
+                : String.format("open: %.1f iterations/s for %ds", ratePerSecond, duration.getSeconds());
+    }
+}
@@ -0,0 +1,110 @@
+package com.upskill.load;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * LoadReport - Throughput, error rate and latency percentiles of a finished load run, per endpoint.
+ */
+public class LoadReport {
+
+    private final LoadProfile profile;
+    private final long elapsedNanos;
+    private final Map<String, EndpointStats> endpoints;
+    private final EndpointStats total = new EndpointStats("TOTAL");
+
+    LoadReport(LoadProfile profile, long elapsedNanos, Map<String, EndpointStats> endpoints) {
+        this.profile = profile;
+        this.elapsedNanos = elapsedNanos;
+        this.endpoints = Collections.unmodifiableMap(endpoints);
+        endpoints.values().forEach(total::addAll);
+    }
+
+    public LoadProfile getProfile() { return profile; }
+
+    public Collection<EndpointStats> getEndpoints() { return endpoints.values(); }
+
+    public EndpointStats getEndpoint(String key) {
+        EndpointStats stats = endpoints.get(key);
+        if (stats == null) throw new IllegalArgumentException("No endpoint '" + key + "' in " + endpoints.keySet());
+        return stats;
+    }
+
+    public EndpointStats getTotal() { return total; }
+
+    public double getElapsedSeconds() {
+        return elapsedNanos / 1_000_000_000.0;
+    }
+
+    /**
+     * Completed requests per second for one endpoint (or the total).
+     */
+    public double throughput(EndpointStats stats) {
+        return elapsedNanos == 0 ? 0 : stats.getCount() / getElapsedSeconds();
+    }
+
+    /**
+     * Report as nested maps, ready to be written as JSON.
+     */
+    public Map<String, Object> toMap() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("profile", profile.toString());
+        result.put("elapsedSeconds", round(getElapsedSeconds()));
+        Map<String, Object> perEndpoint = new LinkedHashMap<>();
+        for (EndpointStats stats : endpoints.values()) {
+            perEndpoint.put(stats.getKey(), row(stats));
+        }
+        result.put("endpoints", perEndpoint);
+        result.put("total", row(total));
+        return result;
+    }
+
+    /**
+     * Plain-text table for logs and report attachments.
+     */
+    public String format() {
+        StringBuilder text = new StringBuilder(String.format("Load run (%s), %.1fs%n", profile, getElapsedSeconds()));
+        text.append(String.format("%-40s %8s %8s %9s %9s %9s %9s %9s%n",
+                "endpoint", "requests", "errors", "req/s", "p50 ms", "p90 ms", "p99 ms", "max ms"));
+        for (EndpointStats stats : endpoints.values()) {
+            text.append(line(stats));
+        }
+        text.append(line(total));
+        return text.toString();
+    }
+
+    @Override
+    public String toString() {
+        return format();
+    }
+
+    // ==================== Helpers ====================
+
+    private String line(EndpointStats stats) {
+        return String.format("%-40s %8d %7.2f%% %9.1f %9.1f %9.1f %9.1f %9.1f%n",
+                stats.getKey(), stats.getCount(), stats.getErrorRate() * 100, throughput(stats),
+                stats.percentileMillis(50), stats.percentileMillis(90), stats.percentileMillis(99),
+                stats.percentileMillis(100));
+    }
+
+    private Map<String, Object> row(EndpointStats stats) {
+        Map<String, Object> row = new LinkedHashMap<>();
+        row.put("requests", stats.getCount());
+        row.put("errors", stats.getErrors());
+        row.put("errorRate", round(stats.getErrorRate()));
+        row.put("throughputPerSecond", round(throughput(stats)));
+        row.put("meanMs", round(stats.meanMillis()));
+        row.put("p50Ms", round(stats.percentileMillis(50)));
+        row.put("p90Ms", round(stats.percentileMillis(90)));
+        row.put("p95Ms", round(stats.percentileMillis(95)));
+        row.put("p99Ms", round(stats.percentileMillis(99)));
+        row.put("maxMs", round(stats.percentileMillis(100)));
+        return row;
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 1000) / 1000.0;
+    }
+}
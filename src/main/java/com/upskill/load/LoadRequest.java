@@ -0,0 +1,55 @@
+package com.upskill.load;
+
+import com.upskill.api.ApiClient;
+import io.restassured.response.Response;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * LoadRequest - One request of a load flow, detached from TestContext so any thread can send it.
+ */
+public class LoadRequest {
+
+    private final String method;
+    private final String endpoint;
+    private final Map<String, Object> queryParams;
+    private final Object body;
+    private final Integer expectedStatus;
+
+    public LoadRequest(String method, String endpoint, Map<String, Object> queryParams, Object body,
+                       Integer expectedStatus) {
+        this.method = method.toUpperCase();
+        this.endpoint = endpoint;
+        this.queryParams = queryParams == null ? null : Collections.unmodifiableMap(queryParams);
+        this.body = body;
+        this.expectedStatus = expectedStatus;
+    }
+
+    public LoadRequest(String method, String endpoint, Map<String, Object> queryParams, Object body) {
+        this(method, endpoint, queryParams, body, null);
+    }
+
+    /**
+     * Name the results are reported under, e.g. "GET /posts/1".
+     */
+    public String key() {
+        return method + " " + endpoint;
+    }
+
+    public Response send() {
+        return ApiClient.send(method, endpoint, queryParams, body);
+    }
+
+    /**
+     * A response counts as an error if it does not have the expected status, or (when no
+     * status is expected) if it is a 4xx/5xx.
+     */
+    public boolean isSuccess(Response response) {
+        int status = response.getStatusCode();
+        return expectedStatus != null ? status == expectedStatus : status < 400;
+    }
+
+    public String getMethod() { return method; }
+    public String getEndpoint() { return endpoint; }
+}
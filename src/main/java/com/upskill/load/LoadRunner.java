@@ -0,0 +1,183 @@
+package com.upskill.load;
+
+import com.upskill.api.ResponseCapture;
+import com.upskill.config.ConfigManager;
+import io.restassured.response.Response;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * LoadRunner - Drives a flow of API requests under a closed or open workload and reports per-endpoint results.
+ *
+ * Requests go through the same ApiClient transport and base specs as the functional steps,
+ * but without Allure steps, attachments or body logging, so the report stays readable.
+ *
+ * Open model latencies are measured from when an iteration was scheduled to start, not from
+ * when a worker got to it, so time spent queued behind a slow server is counted
+ * (no coordinated omission). In-flight iterations are capped at load.max.concurrency.
+ * Each run starts with load.warmup.iterations unrecorded passes over the flow.
+ */
+public class LoadRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(LoadRunner.class);
+
+    private LoadRunner() {}
+
+    public static LoadReport run(List<LoadRequest> flow, LoadProfile profile) {
+        if (flow.isEmpty()) throw new IllegalArgumentException("Load flow has no requests");
+        Map<String, EndpointStats> endpoints = new LinkedHashMap<>();
+        for (LoadRequest request : flow) {
+            endpoints.computeIfAbsent(request.key(), EndpointStats::new);
+        }
+
+        warmUp(flow);
+        log.info("Starting load run ({}) over {} request(s)", profile, flow.size());
+        long start = System.nanoTime();
+        if (profile.getModel() == LoadProfile.Model.CLOSED) {
+            runClosed(flow, endpoints, profile);
+        } else {
+            runOpen(flow, endpoints, profile);
+        }
+        LoadReport report = new LoadReport(profile, System.nanoTime() - start, endpoints);
+        log.info("{}", report.format());
+        return report;
+    }
+
+    // ==================== Workload models ====================
+
+    private static void runClosed(List<LoadRequest> flow, Map<String, EndpointStats> endpoints, LoadProfile profile) {
+        long deadline = System.nanoTime() + profile.getDuration().toNanos();
+        CountDownLatch done = new CountDownLatch(profile.getUsers());
+        ThreadFactory threads = workerThreads("load-user");
+        for (int i = 0; i < profile.getUsers(); i++) {
+            threads.newThread(() -> {
+                try {
+                    while (System.nanoTime() < deadline) {
+                        iterate(flow, endpoints, System.nanoTime());
+                    }
+                } finally {
+                    done.countDown();
+                }
+            }).start();
+        }
+        await(done, profile);
+    }
+
+    private static void runOpen(List<LoadRequest> flow, Map<String, EndpointStats> endpoints, LoadProfile profile) {
+        int maxConcurrency = ConfigManager.getInt("load.max.concurrency", 200);
+        ThreadPoolExecutor workers = new ThreadPoolExecutor(maxConcurrency, maxConcurrency, 30, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), workerThreads("load-worker"));
+        workers.allowCoreThreadTimeOut(true);
+
+        long intervalNanos = (long) (1_000_000_000L / profile.getRatePerSecond());
+        long start = System.nanoTime();
+        long end = start + profile.getDuration().toNanos();
+        for (long n = 0; ; n++) {
+            long intended = start + n * intervalNanos;
+            if (intended >= end) break;
+            long wait = intended - System.nanoTime();
+            if (wait > 0) LockSupport.parkNanos(wait);
+            workers.execute(() -> iterate(flow, endpoints, intended));
+        }
+        shutdownAndAwait(workers, profile);
+    }
+
+    /**
+     * One pass over the flow. The first request is timed from the intended start, so any
+     * delay before it began counts against it.
+     */
+    private static void iterate(List<LoadRequest> flow, Map<String, EndpointStats> endpoints, long intendedStart) {
+        long requestStart = intendedStart;
+        for (LoadRequest request : flow) {
+            boolean error;
+            try {
+                Response response = request.send();
+                error = !request.isSuccess(response);
+            } catch (Exception e) {  // REST Assured rethrows I/O errors (e.g. pool timeouts) unchecked
+                log.debug("Load request {} failed: {}", request.key(), e.getMessage());
+                error = true;
+            }
+            long now = System.nanoTime();
+            endpoints.get(request.key()).record(now - requestStart, error);
+            requestStart = now;
+        }
+    }
+
+    // ==================== Helpers ====================
+
+    /**
+     * Run the flow load.warmup.iterations times, unrecorded, so class loading and first
+     * connections don't land in the measured latencies.
+     */
+    private static void warmUp(List<LoadRequest> flow) {
+        int iterations = ConfigManager.getInt("load.warmup.iterations", 1);
+        if (iterations <= 0) return;
+        Map<String, EndpointStats> discarded = new LinkedHashMap<>();
+        flow.forEach(request -> discarded.computeIfAbsent(request.key(), EndpointStats::new));
+        Thread warmUp = workerThreads("load-warmup").newThread(() -> {
+            for (int i = 0; i < iterations; i++) {
+                iterate(flow, discarded, System.nanoTime());
+            }
+        });
+        warmUp.start();
+        try {
+            warmUp.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Threads that don't inherit the scenario's Allure context and have response capture switched off.
+     */
+    private static ThreadFactory workerThreads(String prefix) {
+        AtomicInteger counter = new AtomicInteger();
+        return r -> {
+            Thread t = new Thread(null, () -> {
+                ResponseCapture.setEnabledOnThisThread(false);
+                r.run();
+            }, prefix + "-" + counter.incrementAndGet(), 0, false);
+            t.setDaemon(true);
+            return t;
+        };
+    }
+
+    private static void await(CountDownLatch done, LoadProfile profile) {
+        try {
+            if (!done.await(drainTimeoutMillis(profile), TimeUnit.MILLISECONDS)) {
+                log.warn("Load users still running after the drain timeout; reporting what completed");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void shutdownAndAwait(ExecutorService workers, LoadProfile profile) {
+        workers.shutdown();
+        try {
+            if (!workers.awaitTermination(drainTimeoutMillis(profile), TimeUnit.MILLISECONDS)) {
+                log.warn("Load iterations still queued after the drain timeout; reporting what completed");
+                workers.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            workers.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static long drainTimeoutMillis(LoadProfile profile) {
+        return profile.getDuration().toMillis() + ConfigManager.getLong("load.drain.timeout.ms", 30000);
+    }
+}
@@ -0,0 +1,25 @@
+package com.upskill.replay;
+
+import com.upskill.config.ConfigManager;
+
+/**
+ * ApiMode - Where API calls go, from api.mode: live (default), record or replay.
+ */
+public enum ApiMode {
+
+    /** Calls go to the real APIs. */
+    LIVE,
+    /** Calls go to the real APIs and every response is saved to the cassette. */
+    RECORD,
+    /** Calls go to an in-process server that answers from the cassette. */
+    REPLAY;
+
+    public static ApiMode current() {
+        String mode = ConfigManager.get("api.mode", "live").trim();
+        try {
+            return valueOf(mode.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown api.mode '" + mode + "' (expected live, record or replay)");
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package com.upskill.replay;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cassette - Recorded API responses, indexed by request key.
+ *
+ * A request key is "METHOD host/path?query#bodyhash": query parameters are sorted, and the
+ * body is reduced to a SHA-256 prefix, so lookups are a single hash map get.
+ * The same request recorded twice keeps the latest response.
+ *
+ * On-disk format (binary, big-endian):
+ *   magic "UPCS", version (int), entry count (int), then per entry:
+ *   key (UTF), status (short), content type (UTF), body length (int), body bytes.
+ * Entries are written sorted by key so re-recording an unchanged API gives an identical file.
+ */
+public class Cassette {
+
+    private static final Logger log = LoggerFactory.getLogger(Cassette.class);
+
+    private static final int MAGIC = 0x55504353;  // "UPCS"
+    private static final int VERSION = 1;
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    /**
+     * Load a cassette file, or return an empty cassette if it doesn't exist.
+     */
+    public static Cassette load(Path file) throws IOException {
+        Cassette cassette = new Cassette();
+        if (!Files.exists(file)) return cassette;
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != MAGIC) throw new IOException("Not a cassette file: " + file);
+            int version = in.readInt();
+            if (version != VERSION) throw new IOException("Unsupported cassette version " + version + ": " + file);
+            int count = in.readInt();
+            for (int i = 0; i < count; i++) {
+                String key = in.readUTF();
+                int status = in.readShort();
+                String contentType = in.readUTF();
+                byte[] body = new byte[in.readInt()];
+                in.readFully(body);
+                cassette.entries.put(key, new Entry(status, contentType, body));
+            }
+        }
+        log.info("Loaded {} recorded responses from {}", cassette.size(), file);
+        return cassette;
+    }
+
+    /**
+     * Write to a temp file next to the target, then move it into place.
+     */
+    public void save(Path file) throws IOException {
+        if (file.getParent() != null) Files.createDirectories(file.getParent());
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        Map<String, Entry> sorted = new TreeMap<>(entries);
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(sorted.size());
+            for (Map.Entry<String, Entry> e : sorted.entrySet()) {
+                Entry entry = e.getValue();
+                out.writeUTF(e.getKey());
+                out.writeShort(entry.status);
+                out.writeUTF(entry.contentType);
+                out.writeInt(entry.body.length);
+                out.write(entry.body);
+            }
+        }
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        log.info("Saved {} recorded responses to {}", sorted.size(), file);
+    }
+
+    public void put(String key, int status, String contentType, byte[] body) {
+        entries.put(key, new Entry(status, contentType == null ? "" : contentType, body));
+    }
+
+    public Entry get(String key) {
+        return entries.get(key);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Request key for a method, host (with _port if any), raw path, raw query and body.
+     */
+    public static String key(String method, String host, String path, String query, byte[] body) {
+        StringBuilder key = new StringBuilder(64)
+                .append(method.toUpperCase()).append(' ')
+                .append(host).append(path.isEmpty() ? "/" : path);
+        if (query != null && !query.isEmpty()) {
+            String[] params = query.split("&");
+            Arrays.sort(params);
+            key.append('?').append(String.join("&", params));
+        }
+        if (body != null && body.length > 0) {
+            key.append('#').append(hash(body));
+        }
+        return key.toString();
+    }
+
+    private static String hash(byte[] body) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(body);
+            StringBuilder hex = new StringBuilder(16);
+            for (int i = 0; i < 8; i++) {
+                hex.append(Character.forDigit((digest[i] >> 4) & 0xF, 16)).append(Character.forDigit(digest[i] & 0xF, 16));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * A recorded response.
+     */
+    public static final class Entry {
+        private final int status;
+        private final String contentType;
+        private final byte[] body;
+
+        Entry(int status, String contentType, byte[] body) {
+            this.status = status;
+            this.contentType = contentType;
+            this.body = body;
+        }
+
+        public int getStatus() { return status; }
+        public String getContentType() { return contentType; }
+        public byte[] getBody() { return body; }
+
+        @Override
+        public String toString() {
+            return status + " " + contentType + " (" + body.length + " bytes)";
+        }
+    }
+}
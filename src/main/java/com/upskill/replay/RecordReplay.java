@@ -0,0 +1,155 @@
+package com.upskill.replay;
+
+import com.upskill.config.ConfigManager;
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * RecordReplay - Wires api.mode into the request specs.
+ *
+ * record: a filter saves every response into the cassette (api.cassette.file), merged with
+ *         what the file already holds, and the file is written at JVM shutdown.
+ * replay: the cassette is loaded and served by a {@link ReplayServer} on loopback
+ *         (api.replay.port, 0 = any free port; api.replay.threads), and every base URL is
+ *         pointed at it. Suites then run without network access or third-party rate limits.
+ *
+ * Settings are read once, when the first base spec is built.
+ */
+public final class RecordReplay {
+
+    private static final Logger log = LoggerFactory.getLogger(RecordReplay.class);
+
+    private static final ApiMode mode = ApiMode.current();
+    private static final Path cassetteFile = Paths.get(ConfigManager.get("api.cassette.file", "src/test/resources/cassettes/api.cassette"));
+    private static final Cassette cassette;
+    private static final ReplayServer server;
+    private static final Filter recorder = new RecordingFilter();
+
+    static {
+        try {
+            cassette = mode == ApiMode.LIVE ? null : Cassette.load(cassetteFile);
+            if (mode == ApiMode.REPLAY) {
+                server = ReplayServer.start(cassette,
+                        ConfigManager.getInt("api.replay.port", 0),
+                        ConfigManager.getInt("api.replay.threads", Math.max(8, Runtime.getRuntime().availableProcessors() * 2)));
+                Runtime.getRuntime().addShutdownHook(new Thread(server::stop, "replay-server-stop"));
+            } else {
+                server = null;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not set up api.mode=" + mode.name().toLowerCase() + " with " + cassetteFile, e);
+        }
+        if (mode == ApiMode.RECORD) {
+            Runtime.getRuntime().addShutdownHook(new Thread(RecordReplay::save, "cassette-save"));
+        }
+        log.info("API mode: {}", mode.name().toLowerCase());
+    }
+
+    private RecordReplay() {}
+
+    public static ApiMode mode() {
+        return mode;
+    }
+
+    /**
+     * The URL requests should actually use for a configured base URL. In replay mode,
+     * https://reqres.in/api becomes http://127.0.0.1:port/reqres.in/api.
+     */
+    public static String baseUrl(String liveBaseUrl) {
+        if (mode != ApiMode.REPLAY) return liveBaseUrl;
+        URI uri = URI.create(liveBaseUrl);
+        String path = uri.getRawPath() == null ? "" : uri.getRawPath();
+        return server.baseUrl() + "/" + hostOf(uri) + path;
+    }
+
+    /**
+     * A request path as it would be against the live API: in replay mode, the leading
+     * host segment added by {@link #baseUrl(String)} is removed.
+     */
+    public static String livePath(String path) {
+        if (mode != ApiMode.REPLAY || path.length() < 2) return path;
+        int slash = path.indexOf('/', 1);
+        return slash < 0 ? "/" : path.substring(slash);
+    }
+
+    /**
+     * Filter to add to base specs, or null unless recording.
+     */
+    public static Filter filter() {
+        return mode == ApiMode.RECORD ? recorder : null;
+    }
+
+    /**
+     * Write recorded responses to api.cassette.file (record mode; runs at shutdown).
+     */
+    public static synchronized void save() {
+        if (mode != ApiMode.RECORD) return;
+        try {
+            cassette.save(cassetteFile);
+        } catch (IOException e) {
+            log.error("Could not save cassette {}: {}", cassetteFile, e.getMessage());
+        }
+    }
+
+    public static Map<String, Object> stats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("mode", mode.name().toLowerCase());
+        if (cassette != null) {
+            stats.put("cassette", cassetteFile.toString());
+            stats.put("recordings", cassette.size());
+        }
+        if (server != null) {
+            stats.put("hits", server.getHits());
+            stats.put("misses", server.getMisses());
+        }
+        return stats;
+    }
+
+    /**
+     * Host as used in keys and replay paths; an explicit port is joined with '_' so the
+     * value stays a plain path segment (localhost_8080).
+     */
+    private static String hostOf(URI uri) {
+        return uri.getPort() < 0 ? uri.getHost() : uri.getHost() + "_" + uri.getPort();
+    }
+
+    /**
+     * Saves each response under its request key. Runs closest to the network, after the
+     * capture and metrics filters.
+     */
+    private static final class RecordingFilter implements Filter {
+
+        @Override
+        public Response filter(FilterableRequestSpecification requestSpec,
+                               FilterableResponseSpecification responseSpec,
+                               FilterContext ctx) {
+            Response response = ctx.next(requestSpec, responseSpec);
+            URI uri = URI.create(requestSpec.getURI());
+            String key = Cassette.key(requestSpec.getMethod(), hostOf(uri), uri.getRawPath(), uri.getRawQuery(),
+                    bodyBytes(requestSpec.getBody()));
+            cassette.put(key, response.getStatusCode(), response.getContentType(), response.asByteArray());
+            log.debug("Recorded {}", key);
+            return response;
+        }
+
+        private static byte[] bodyBytes(Object body) {
+            if (body == null) return null;
+            if (body instanceof byte[]) return (byte[]) body;
+            return body.toString().getBytes(StandardCharsets.UTF_8);
+        }
+    }
+}
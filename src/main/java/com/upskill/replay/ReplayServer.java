@@ -0,0 +1,113 @@
+package com.upskill.replay;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * ReplayServer - In-process HTTP server that answers from a cassette.
+ *
+ * Listens on the loopback interface only. Request paths carry the original host as their
+ * first segment (http://127.0.0.1:port/jsonplaceholder.typicode.com/users/1), so one server
+ * replays every API target. A request with no recording gets 501 and the missing key in
+ * the body, so the failing step shows what to record.
+ */
+public class ReplayServer {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplayServer.class);
+
+    private final Cassette cassette;
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    private ReplayServer(Cassette cassette, int port, int threads) throws IOException {
+        this.cassette = cassette;
+        // Without TCP_NODELAY small responses wait on Nagle / delayed ACK (~40ms each)
+        System.setProperty("sun.net.httpserver.nodelay", "true");
+        this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 1024);
+        AtomicInteger counter = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(threads, r -> {
+            Thread t = new Thread(r, "replay-server-" + counter.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+        server.setExecutor(executor);
+        server.createContext("/", this::handle);
+    }
+
+    public static ReplayServer start(Cassette cassette, int port, int threads) throws IOException {
+        ReplayServer replay = new ReplayServer(cassette, port, threads);
+        replay.server.start();
+        log.info("Replay server on {} serving {} recorded responses ({} threads)", replay.baseUrl(), cassette.size(), threads);
+        return replay;
+    }
+
+    /**
+     * http://127.0.0.1:port, without a trailing slash.
+     */
+    public String baseUrl() {
+        InetSocketAddress address = server.getAddress();
+        return "http://" + address.getAddress().getHostAddress() + ":" + address.getPort();
+    }
+
+    public long getHits() { return hits.sum(); }
+    public long getMisses() { return misses.sum(); }
+
+    public void stop() {
+        server.stop(0);
+        executor.shutdownNow();
+        log.info("Replay server stopped: {} hits, {} misses", getHits(), getMisses());
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            byte[] body;
+            try (InputStream in = exchange.getRequestBody()) {
+                body = in.readAllBytes();
+            }
+            URI uri = exchange.getRequestURI();
+            String rawPath = uri.getRawPath();
+            int slash = rawPath.indexOf('/', 1);
+            String host = slash < 0 ? rawPath.substring(1) : rawPath.substring(1, slash);
+            String path = slash < 0 ? "/" : rawPath.substring(slash);
+            String key = Cassette.key(exchange.getRequestMethod(), host, path, uri.getRawQuery(), body);
+
+            Cassette.Entry entry = cassette.get(key);
+            if (entry == null) {
+                misses.increment();
+                log.warn("No recorded response for {}", key);
+                respond(exchange, 501, "text/plain", ("No recorded response for " + key).getBytes(StandardCharsets.UTF_8));
+                return;
+            }
+            hits.increment();
+            respond(exchange, entry.getStatus(), entry.getContentType(), entry.getBody());
+        }
+    }
+
+    private static void respond(HttpExchange exchange, int status, String contentType, byte[] body) throws IOException {
+        if (!contentType.isEmpty()) exchange.getResponseHeaders().set("Content-Type", contentType);
+        // 204/304 must not carry a body; -1 tells HttpServer there is none
+        boolean noBody = body.length == 0 || status == 204 || status == 304;
+        exchange.sendResponseHeaders(status, noBody ? -1 : body.length);
+        if (!noBody) {
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        }
+    }
+}
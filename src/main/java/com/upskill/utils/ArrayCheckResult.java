@@ -0,0 +1,37 @@
+package com.upskill.utils;
+
+/**
+ * ArrayCheckResult - Outcome of a streaming array check: elements read and the first failure, if any.
+ */
+public class ArrayCheckResult {
+
+    private final int elementsChecked;
+    private final int failedIndex;
+    private final String failure;
+
+    ArrayCheckResult(int elementsChecked, int failedIndex, String failure) {
+        this.elementsChecked = elementsChecked;
+        this.failedIndex = failedIndex;
+        this.failure = failure;
+    }
+
+    public boolean isPassed() { return failure == null; }
+
+    /**
+     * Elements read before the check finished; stops at the first failing element.
+     */
+    public int getElementsChecked() { return elementsChecked; }
+
+    /**
+     * Index of the first failing element, or -1 if the failure is not about one element
+     * (item counts, malformed body) or the check passed.
+     */
+    public int getFailedIndex() { return failedIndex; }
+
+    public String getFailure() { return failure; }
+
+    @Override
+    public String toString() {
+        return isPassed() ? "passed: " + elementsChecked + " elements" : "failed: " + failure;
+    }
+}
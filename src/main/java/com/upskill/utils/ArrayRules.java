@@ -0,0 +1,106 @@
+package com.upskill.utils;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * ArrayRules - Per-element rules for a JSON array of objects, checked by {@link JsonUtils#checkArray}.
+ *
+ * Rules apply to fields of each element, top-level ("email") or nested in objects with a
+ * dotted path ("address.city"); array indexes and other GPath expressions are not supported.
+ * A field that is present but null counts as missing, as with assertNotNull.
+ *
+ * <pre>
+ * ArrayRules.create()
+ *         .requireFields("id", "postId", "email")
+ *         .fieldEquals("postId", 1)
+ *         .fieldBetween("id", 1, 5)
+ *         .minItems(1);
+ * </pre>
+ */
+public class ArrayRules {
+
+    private final Set<String> required = new LinkedHashSet<>();
+    private final Map<String, Object> equalTo = new LinkedHashMap<>();
+    private final Map<String, BigDecimal[]> ranges = new LinkedHashMap<>();
+    private int minItems = 0;
+    private int maxItems = Integer.MAX_VALUE;
+
+    private ArrayRules() {}
+
+    public static ArrayRules create() {
+        return new ArrayRules();
+    }
+
+    public ArrayRules requireFields(String... fields) {
+        Collections.addAll(required, fields);
+        return this;
+    }
+
+    /**
+     * Every element's field must equal the value: numbers compare by value (1 equals 1.0),
+     * anything else by its JSON text.
+     */
+    public ArrayRules fieldEquals(String field, Object expected) {
+        equalTo.put(field, expected);
+        return this;
+    }
+
+    /**
+     * Every element's field must be a number within [min, max].
+     */
+    public ArrayRules fieldBetween(String field, Number min, Number max) {
+        ranges.put(field, new BigDecimal[]{new BigDecimal(min.toString()), new BigDecimal(max.toString())});
+        return this;
+    }
+
+    public ArrayRules minItems(int min) {
+        this.minItems = min;
+        return this;
+    }
+
+    public ArrayRules maxItems(int max) {
+        this.maxItems = max;
+        return this;
+    }
+
+    // ==================== Used by JsonUtils ====================
+
+    /**
+     * Every field any rule looks at; each must be present and non-null, all other fields are
+     * skipped unread.
+     */
+    List<String> fields() {
+        Set<String> fields = new LinkedHashSet<>(required);
+        fields.addAll(equalTo.keySet());
+        fields.addAll(ranges.keySet());
+        return new ArrayList<>(fields);
+    }
+
+    Object expectedValue(String field) {
+        return equalTo.get(field);
+    }
+
+    boolean hasExpectedValue(String field) {
+        return equalTo.containsKey(field);
+    }
+
+    BigDecimal[] range(String field) {
+        return ranges.get(field);
+    }
+
+    int getMinItems() { return minItems; }
+    int getMaxItems() { return maxItems; }
+
+    @Override
+    public String toString() {
+        return "required=" + required + ", equals=" + equalTo + ", between=" + ranges.keySet()
+                + ", items=[" + minItems + ".." + (maxItems == Integer.MAX_VALUE ? "" : maxItems) + "]";
+    }
+}
@@ -1,46 +1,143 @@
 package com.upskill.utils;
 
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import com.upskill.config.ConfigManager;
 import io.restassured.response.Response;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * JsonUtils - Helper methods for JSON operations.
+ *
+ * Serialization goes through an ObjectReader/ObjectWriter cached per type (see {@link #reader}),
+ * and byte[]/InputStream/Response overloads read bodies without copying them into a String.
+ *
+ * {@link #checkArray} checks a JSON array element by element with Jackson's streaming parser:
+ * one pass, no object tree, memory independent of the array size, stopping at the first
+ * failing element.
  */
 public class JsonUtils {
 
     private static final Logger log = LoggerFactory.getLogger(JsonUtils.class);
-    private static final ObjectMapper mapper = new ObjectMapper();
+    private static final ObjectMapper mapper = createMapper();
+    private static final Map<JavaType, ObjectReader> readers = new ConcurrentHashMap<>();
+    private static final Map<Class<?>, ObjectWriter> writers = new ConcurrentHashMap<>();
 
     /**
      * Convert an object to JSON string.
      */
     public static String toJson(Object obj) {
         try {
-            return mapper.writeValueAsString(obj);
+            return writer(obj).writeValueAsString(obj);
         } catch (JsonProcessingException e) {
             log.error("Failed to serialize to JSON: {}", e.getMessage());
             return "{}";
         }
     }
 
+    /**
+     * Convert an object to UTF-8 JSON bytes, without an intermediate String.
+     */
+    public static byte[] toJsonBytes(Object obj) {
+        try {
+            return writer(obj).writeValueAsBytes(obj);
+        } catch (JsonProcessingException e) {
+            log.error("Failed to serialize to JSON: {}", e.getMessage());
+            return "{}".getBytes(StandardCharsets.UTF_8);
+        }
+    }
+
     /**
      * Convert JSON string to an object.
      */
     public static <T> T fromJson(String json, Class<T> clazz) {
         try {
-            return mapper.readValue(json, clazz);
+            return reader(clazz).readValue(json);
         } catch (JsonProcessingException e) {
             log.error("Failed to deserialize JSON: {}", e.getMessage());
             return null;
         }
     }
 
+    /**
+     * Convert UTF-8 JSON bytes to an object, e.g. straight from response.asByteArray().
+     */
+    public static <T> T fromJson(byte[] json, Class<T> clazz) {
+        try {
+            return reader(clazz).readValue(json);
+        } catch (IOException e) {
+            log.error("Failed to deserialize JSON: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Convert a JSON stream to an object. The stream is read to the end but not closed.
+     */
+    public static <T> T fromJson(InputStream json, Class<T> clazz) {
+        try {
+            return reader(clazz).readValue(json);
+        } catch (IOException e) {
+            log.error("Failed to deserialize JSON: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Deserialize a response body to an object without going through a String.
+     */
+    public static <T> T fromResponse(Response response, Class<T> clazz) {
+        return fromJson(response.asByteArray(), clazz);
+    }
+
+    /**
+     * Convert a JSON array string to a list of objects.
+     */
+    public static <T> List<T> listFromJson(String json, Class<T> elementType) {
+        try {
+            return listReader(elementType).readValue(json);
+        } catch (JsonProcessingException e) {
+            log.error("Failed to deserialize JSON list: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    public static <T> List<T> listFromJson(byte[] json, Class<T> elementType) {
+        try {
+            return listReader(elementType).readValue(json);
+        } catch (IOException e) {
+            log.error("Failed to deserialize JSON list: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Deserialize a JSON array response body to a list, e.g. listFromResponse(response, Post.class).
+     */
+    public static <T> List<T> listFromResponse(Response response, Class<T> elementType) {
+        return listFromJson(response.asByteArray(), elementType);
+    }
+
     /**
      * Extract a field value from a Response using JsonPath.
      */
@@ -61,4 +158,168 @@ public class JsonUtils {
     public static String prettyPrint(Response response) {
         return response.getBody().asPrettyString();
     }
+
+    // ==================== Streaming array checks ====================
+
+    public static ArrayCheckResult checkArray(Response response, ArrayRules rules) {
+        return checkArray(response.asByteArray(), rules);
+    }
+
+    public static ArrayCheckResult checkArray(byte[] body, ArrayRules rules) {
+        return checkArray(new ByteArrayInputStream(body), rules);
+    }
+
+    /**
+     * Check every element of a top-level JSON array against the rules.
+     */
+    public static ArrayCheckResult checkArray(InputStream body, ArrayRules rules) {
+        List<String> fields = rules.fields();
+        Map<String, Integer> slots = new HashMap<>();
+        Set<String> parents = new HashSet<>();
+        for (int i = 0; i < fields.size(); i++) {
+            String field = fields.get(i);
+            slots.put(field, i);
+            for (int dot = field.indexOf('.'); dot > 0; dot = field.indexOf('.', dot + 1)) {
+                parents.add(field.substring(0, dot));
+            }
+        }
+        boolean[] seen = new boolean[fields.size()];
+
+        int index = 0;
+        try (JsonParser parser = mapper.getFactory().createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                return new ArrayCheckResult(0, -1, "Response body is not a JSON array");
+            }
+            JsonToken token;
+            while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+                if (token == null) return new ArrayCheckResult(index, -1, "JSON array is not terminated");
+                if (index >= rules.getMaxItems()) {
+                    return new ArrayCheckResult(index, -1, "Expected at most " + rules.getMaxItems() + " items, found more");
+                }
+                if (token != JsonToken.START_OBJECT) {
+                    return new ArrayCheckResult(index + 1, index, "Element [" + index + "] is not an object: " + token);
+                }
+                Arrays.fill(seen, false);
+                String failure = checkObject(parser, "", slots, parents, seen, rules);
+                if (failure != null) {
+                    return new ArrayCheckResult(index + 1, index, "Element [" + index + "] " + failure);
+                }
+                for (int i = 0; i < seen.length; i++) {
+                    if (!seen[i]) {
+                        return new ArrayCheckResult(index + 1, index, "Element [" + index + "] is missing field '" + fields.get(i) + "'");
+                    }
+                }
+                index++;
+            }
+        } catch (IOException e) {
+            String reason = e instanceof JsonProcessingException ? ((JsonProcessingException) e).getOriginalMessage() : e.getMessage();
+            return new ArrayCheckResult(index, -1, "Malformed JSON after element [" + index + "]: " + reason);
+        }
+        if (index < rules.getMinItems()) {
+            return new ArrayCheckResult(index, -1, "Expected at least " + rules.getMinItems() + " items, found " + index);
+        }
+        return new ArrayCheckResult(index, -1, null);
+    }
+
+    /**
+     * Check the fields of the object the parser has just entered, descending into nested
+     * objects only on the way to a dotted field ("address.city"). Returns a failure message,
+     * or null once the object has been read.
+     */
+    private static String checkObject(JsonParser parser, String prefix, Map<String, Integer> slots, Set<String> parents,
+                                      boolean[] seen, ArrayRules rules) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String path = prefix + parser.currentName();
+            JsonToken value = parser.nextToken();
+            Integer slot = slots.get(path);
+            if (slot == null) {
+                if (value == JsonToken.START_OBJECT && parents.contains(path)) {
+                    String failure = checkObject(parser, path + ".", slots, parents, seen, rules);
+                    if (failure != null) return failure;
+                } else {
+                    parser.skipChildren();
+                }
+                continue;
+            }
+            if (value == JsonToken.VALUE_NULL) continue;
+            seen[slot] = true;
+            String failure = checkValue(parser, value, path, rules);
+            if (failure != null) return failure;
+        }
+        return null;
+    }
+
+    /**
+     * Returns a failure message for the current value, or null if it passes.
+     */
+    private static String checkValue(JsonParser parser, JsonToken value, String field, ArrayRules rules) throws IOException {
+        boolean number = value == JsonToken.VALUE_NUMBER_INT || value == JsonToken.VALUE_NUMBER_FLOAT;
+        if (rules.hasExpectedValue(field)) {
+            Object expected = rules.expectedValue(field);
+            boolean matches;
+            if (expected instanceof Number && number) {
+                matches = parser.getDecimalValue().compareTo(new BigDecimal(expected.toString())) == 0;
+            } else if (value.isScalarValue()) {
+                matches = String.valueOf(expected).equals(parser.getText());
+            } else {
+                parser.skipChildren();
+                matches = false;
+            }
+            if (!matches) return "field '" + field + "' expected " + expected + " but was " + describe(parser, value);
+        }
+        BigDecimal[] range = rules.range(field);
+        if (range != null) {
+            if (!number) {
+                String actual = describe(parser, value);
+                parser.skipChildren();
+                return "field '" + field + "' is not a number: " + actual;
+            }
+            BigDecimal actual = parser.getDecimalValue();
+            if (actual.compareTo(range[0]) < 0 || actual.compareTo(range[1]) > 0) {
+                return "field '" + field + "' = " + actual + " is not between " + range[0] + " and " + range[1];
+            }
+        }
+        if (!value.isScalarValue()) parser.skipChildren();
+        return null;
+    }
+
+    private static String describe(JsonParser parser, JsonToken value) throws IOException {
+        return value.isScalarValue() ? parser.getText() : value.name();
+    }
+
+    // ==================== Readers and writers ====================
+
+    /**
+     * Reader bound to a type, built once per type. ObjectReaders are immutable and thread-safe,
+     * and keep the type's deserializer after the first call, so per-call type resolution is skipped.
+     */
+    public static <T> ObjectReader reader(Class<T> type) {
+        return reader(mapper.constructType(type));
+    }
+
+    public static <T> ObjectReader listReader(Class<T> elementType) {
+        return reader(mapper.getTypeFactory().constructCollectionType(List.class, elementType));
+    }
+
+    private static ObjectReader reader(JavaType type) {
+        return readers.computeIfAbsent(type, mapper::readerFor);
+    }
+
+    private static ObjectWriter writer(Object obj) {
+        Class<?> type = obj == null ? Object.class : obj.getClass();
+        return writers.computeIfAbsent(type, mapper::writerFor);
+    }
+
+    /**
+     * With json.blackbird.enabled=true, registers the Blackbird module, which replaces
+     * reflective getter/setter/constructor calls with generated lambdas.
+     */
+    private static ObjectMapper createMapper() {
+        ObjectMapper objectMapper = new ObjectMapper();
+        if (ConfigManager.getBoolean("json.blackbird.enabled", false)) {
+            objectMapper.registerModule(new BlackbirdModule());
+            log.info("Jackson Blackbird module enabled");
+        }
+        return objectMapper;
+    }
 }
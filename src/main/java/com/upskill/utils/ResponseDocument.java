@@ -0,0 +1,139 @@
+package com.upskill.utils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jayway.jsonpath.Configuration;
+import com.jayway.jsonpath.DocumentContext;
+import com.jayway.jsonpath.JsonPath;
+import com.jayway.jsonpath.Option;
+import com.jayway.jsonpath.spi.json.JacksonJsonProvider;
+import com.jayway.jsonpath.spi.mapper.JacksonMappingProvider;
+import io.restassured.response.Response;
+
+import java.io.ByteArrayInputStream;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * ResponseDocument - A response body parsed once, queried many times.
+ *
+ * response.jsonPath() re-parses the body on every call; a scenario's assertion steps go
+ * through TestContext.getDocument() instead, which parses the current response on first use
+ * and keeps it until the response changes. Expressions are compiled once per string and
+ * shared across threads.
+ *
+ * Accepts the GPath subset used in feature files ("name", "address.city", "[0].title",
+ * "userId" on a list, "$") as well as Jayway JsonPath ("$[*].id"). Missing fields read as
+ * null. Expressions with GPath closures or method calls ("find { ... }", "size()") are
+ * handed to REST Assured's JsonPath.
+ */
+public class ResponseDocument {
+
+    private static final ObjectMapper mapper = new ObjectMapper();
+    private static final Configuration CONFIG = Configuration.builder()
+            .jsonProvider(new JacksonJsonProvider(mapper))
+            .mappingProvider(new JacksonMappingProvider(mapper))
+            .options(Option.SUPPRESS_EXCEPTIONS)
+            .build();
+    private static final Map<String, JsonPath> compiled = new ConcurrentHashMap<>();
+
+    private final Response response;
+    private final DocumentContext document;
+    private final boolean rootIsArray;
+    private io.restassured.path.json.JsonPath gpath;
+
+    private ResponseDocument(Response response) {
+        this.response = response;
+        byte[] body = response.asByteArray();
+        try {
+            this.document = JsonPath.using(CONFIG).parse(new ByteArrayInputStream(body));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Response body is not JSON: " + e.getMessage(), e);
+        }
+        this.rootIsArray = document.json() instanceof List;
+    }
+
+    public static ResponseDocument of(Response response) {
+        return new ResponseDocument(response);
+    }
+
+    /**
+     * The response this document was parsed from.
+     */
+    public Response getResponse() {
+        return response;
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T get(String expression) {
+        if (isGPathOnly(expression)) {
+            return gpath().get(expression);
+        }
+        return (T) document.read(compile(normalize(expression)));
+    }
+
+    public String getString(String expression) {
+        Object value = get(expression);
+        return value == null ? null : String.valueOf(value);
+    }
+
+    public int getInt(String expression) {
+        Object value = get(expression);
+        if (value instanceof Number) return ((Number) value).intValue();
+        if (value instanceof String) return Integer.parseInt((String) value);
+        throw new IllegalArgumentException("No int at '" + expression + "', found: " + value);
+    }
+
+    public <T> List<T> getList(String expression) {
+        Object value = get(expression);
+        if (value == null) return null;
+        if (!(value instanceof List)) {
+            throw new IllegalArgumentException("No list at '" + expression + "', found: " + value);
+        }
+        @SuppressWarnings("unchecked")
+        List<T> list = (List<T>) value;
+        return list;
+    }
+
+    public <T> List<T> getList(String expression, Class<T> type) {
+        List<Object> list = getList(expression);
+        if (list == null) return null;
+        return list.stream()
+                .map(item -> type.isInstance(item) ? type.cast(item) : mapper.convertValue(item, type))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Number of compiled expressions currently cached.
+     */
+    public static int compiledExpressions() {
+        return compiled.size();
+    }
+
+    // ==================== Helpers ====================
+
+    private static JsonPath compile(String expression) {
+        return compiled.computeIfAbsent(expression, JsonPath::compile);
+    }
+
+    /**
+     * GPath to JsonPath: paths are rooted at $, and a bare field on a list root collects it
+     * from every element, as GPath does.
+     */
+    private String normalize(String expression) {
+        if (expression.isEmpty() || expression.equals("$")) return "$";
+        if (expression.startsWith("$")) return expression;
+        if (expression.startsWith("[")) return "$" + expression;
+        return (rootIsArray ? "$[*]." : "$.") + expression;
+    }
+
+    private static boolean isGPathOnly(String expression) {
+        return !expression.startsWith("$") && (expression.indexOf('{') >= 0 || expression.indexOf('(') >= 0);
+    }
+
+    private synchronized io.restassured.path.json.JsonPath gpath() {
+        if (gpath == null) gpath = response.jsonPath();
+        return gpath;
+    }
+}
@@ -2,18 +2,23 @@ package com.upskill.utils;
 
 import io.restassured.response.Response;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.function.Supplier;
 
 /**
  * TestContext - Shares state across Cucumber step definitions within a scenario.
  *
  * Since Cucumber creates new step definition instances, we use this
  * ThreadLocal context to share data like responses, extracted fields, etc.
+ * The map is synchronized so async tasks started via {@link #propagate(Supplier)} can share it.
+ * The current response's parsed body is kept alongside it (see {@link #getDocument()}).
  */
 public class TestContext {
 
-    private static final ThreadLocal<Map<String, Object>> context = ThreadLocal.withInitial(HashMap::new);
+    private static final ThreadLocal<Map<String, Object>> context = ThreadLocal.withInitial(
+            () -> Collections.synchronizedMap(new HashMap<>()));
 
     public static void set(String key, Object value) {
         context.get().put(key, value);
@@ -29,7 +34,29 @@ public class TestContext {
     }
 
     public static void setResponse(Response response) {
-        set("response", response);
+        Map<String, Object> map = context.get();
+        synchronized (map) {
+            map.put("response", response);
+            map.remove("document");
+        }
+    }
+
+    /**
+     * The current response's body, parsed on first use and reused by later assertions until
+     * the response changes.
+     */
+    public static ResponseDocument getDocument() {
+        Response response = getResponse();
+        if (response == null) throw new IllegalStateException("No response in the current scenario");
+        Map<String, Object> map = context.get();
+        synchronized (map) {
+            ResponseDocument document = (ResponseDocument) map.get("document");
+            if (document == null || document.getResponse() != response) {
+                document = ResponseDocument.of(response);
+                map.put("document", document);
+            }
+            return document;
+        }
     }
 
     public static void clear() {
@@ -39,4 +66,20 @@ public class TestContext {
     public static void remove() {
         context.remove();
     }
+
+    /**
+     * Wrap a task so that, on whatever thread it runs, it sees the calling thread's scenario context.
+     */
+    public static <T> Supplier<T> propagate(Supplier<T> task) {
+        Map<String, Object> captured = context.get();
+        return () -> {
+            Map<String, Object> previous = context.get();
+            context.set(captured);
+            try {
+                return task.get();
+            } finally {
+                context.set(previous);
+            }
+        };
+    }
 }
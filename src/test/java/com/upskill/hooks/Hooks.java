@@ -1,31 +1,72 @@
 package com.upskill.hooks;
 
+import com.upskill.api.HttpTransport;
+import com.upskill.api.ResponseCache;
+import com.upskill.config.ConfigManager;
 import com.upskill.db.DatabaseUtil;
+import com.upskill.stub.ApiStub;
 import com.upskill.utils.TestContext;
 import io.cucumber.java.After;
 import io.cucumber.java.Before;
+import io.cucumber.java.BeforeAll;
 import io.cucumber.java.Scenario;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
+
 public class Hooks {
 
     private static final Logger log = LoggerFactory.getLogger(Hooks.class);
 
+    /**
+     * With -P stub, serve the API from a local ApiStub; the profile points api.base.url at it.
+     */
+    @BeforeAll
+    public static void startApiStub() throws IOException {
+        String port = System.getProperty("stub.port");
+        if (port != null && !port.isBlank()) {
+            ApiStub.startOnce(Integer.parseInt(port), Long.getLong("stub.latency.ms", 0));
+        }
+    }
+
     @Before
     public void beforeScenario(Scenario scenario) {
         log.info("======== STARTING: {} [Tags: {}] ========", scenario.getName(), scenario.getSourceTagNames());
         TestContext.clear();
     }
 
+    /**
+     * Runs after beforeScenario has cleared the context.
+     */
+    @Before(value = "@cacheable", order = 10001)
+    public void beforeCacheableScenario() {
+        ResponseCache.enableForScenario();
+    }
+
+    /**
+     * @db scenarios run in one transaction that afterDbScenario rolls back, so their test data
+     * needs no cleanup. Tag a scenario @db-commit when something outside this connection (e.g.
+     * the API under test) must see its writes.
+     */
+    @Before("@db and not @db-commit")
+    public void beforeDbScenario() {
+        if (ConfigManager.getBoolean("db.transaction.per.scenario", true) && DatabaseUtil.beginScenarioTransaction()) {
+            log.info("DB changes in this scenario will be rolled back");
+        }
+    }
+
     @After
     public void afterScenario(Scenario scenario) {
         log.info("======== FINISHED: {} [Status: {}] ========", scenario.getName(), scenario.getStatus());
+        log.debug("HTTP pool: {}", HttpTransport.poolStats());
         TestContext.remove();
     }
 
     @After("@db")
     public void afterDbScenario() {
+        DatabaseUtil.rollbackScenarioTransaction();
         DatabaseUtil.closeConnection();
+        log.debug("DB pool: {}", DatabaseUtil.poolStats());
     }
 }
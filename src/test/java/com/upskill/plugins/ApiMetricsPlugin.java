@@ -0,0 +1,101 @@
+package com.upskill.plugins;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.upskill.api.ApiMetrics;
+import com.upskill.api.HostLimiter;
+import com.upskill.api.HttpTransport;
+import com.upskill.api.JdkHttpTransport;
+import com.upskill.api.ResponseCache;
+import com.upskill.config.ConfigManager;
+import com.upskill.replay.RecordReplay;
+import io.cucumber.plugin.ConcurrentEventListener;
+import io.cucumber.plugin.event.EventPublisher;
+import io.cucumber.plugin.event.TestRunFinished;
+import io.cucumber.plugin.event.TestRunStarted;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * ApiMetricsPlugin - Publishes the run-wide API latency histograms when the Cucumber run ends.
+ *
+ * Writes target/api-metrics.json (per-endpoint counts, errors and p50/p90/p99/max, plus HTTP
+ * pool stats, record/replay counts, response cache hit ratio and per-host limits and queue depths)
+ * and adds the run totals to environment.properties in the Allure results, which the report
+ * shows in its Environment widget. Metrics are reset when a run starts.
+ */
+public class ApiMetricsPlugin implements ConcurrentEventListener {
+
+    private static final Logger log = LoggerFactory.getLogger(ApiMetricsPlugin.class);
+    private static final File OUTPUT = new File("target/api-metrics.json");
+    private static final ObjectMapper mapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    @Override
+    public void setEventPublisher(EventPublisher publisher) {
+        publisher.registerHandlerFor(TestRunStarted.class, event -> {
+            ApiMetrics.reset();
+            HostLimiter.reset();
+        });
+        publisher.registerHandlerFor(TestRunFinished.class, this::publish);
+    }
+
+    private void publish(TestRunFinished event) {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("endpoints", ApiMetrics.snapshot());
+        metrics.put("transport", JdkHttpTransport.name());
+        metrics.put("httpPool", HttpTransport.poolStats());
+        metrics.put("apiMode", RecordReplay.stats());
+        metrics.put("responseCache", ResponseCache.stats());
+        metrics.put("hostLimits", HostLimiter.stats());
+
+        try {
+            String json = mapper.writeValueAsString(metrics);
+            OUTPUT.getParentFile().mkdirs();
+            Files.writeString(OUTPUT.toPath(), json, StandardCharsets.UTF_8);
+            Map<?, ?> total = (Map<?, ?>) ((Map<?, ?>) metrics.get("endpoints")).get(ApiMetrics.TOTAL);
+            log.info("API metrics written to {}: {}", OUTPUT, total);
+            if (total != null) addToAllureEnvironment(total);
+        } catch (JsonProcessingException e) {
+            log.warn("Could not serialize API metrics: {}", e.getMessage());
+        } catch (IOException e) {
+            log.warn("Could not write API metrics: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Merges the totals into environment.properties rather than adding a result, so the report's
+     * test counts only include real scenarios. Keys other plugins wrote are kept.
+     */
+    private void addToAllureEnvironment(Map<?, ?> total) throws IOException {
+        Path file = Paths.get(ConfigManager.get("allure.results.directory", "target/allure-results"), "environment.properties");
+        Properties environment = new Properties();
+        if (Files.exists(file)) {
+            try (Reader in = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+                environment.load(in);
+            }
+        }
+        for (String key : new String[]{"count", "errors", "p50Ms", "p90Ms", "p99Ms", "maxMs"}) {
+            Object value = total.get(key);
+            if (value != null) environment.setProperty("api." + key, String.valueOf(value));
+        }
+        environment.setProperty("api.transport", JdkHttpTransport.name());
+        environment.setProperty("api.metrics", OUTPUT.getPath());
+        Files.createDirectories(file.getParent());
+        try (Writer out = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            environment.store(out, null);
+        }
+    }
+}
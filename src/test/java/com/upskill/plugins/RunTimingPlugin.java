@@ -0,0 +1,101 @@
+package com.upskill.plugins;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.cucumber.plugin.ConcurrentEventListener;
+import io.cucumber.plugin.event.EventPublisher;
+import io.cucumber.plugin.event.TestCaseFinished;
+import io.cucumber.plugin.event.TestRunFinished;
+import io.cucumber.plugin.event.TestRunStarted;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * RunTimingPlugin - Records the wall-clock time of a Cucumber run and the summed scenario time.
+ *
+ * Writes target/run-timing/{serial|parallel-N}.json. The summed scenario time is what a serial
+ * run would roughly take, so its ratio to wall-clock time is the effective parallel speedup.
+ * When both a serial and a parallel result exist, a side-by-side comparison is logged and
+ * written to target/run-timing/comparison.json.
+ */
+public class RunTimingPlugin implements ConcurrentEventListener {
+
+    private static final Logger log = LoggerFactory.getLogger(RunTimingPlugin.class);
+    private static final File OUTPUT_DIR = new File("target/run-timing");
+    private static final ObjectMapper mapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    private Instant started;
+    private final AtomicLong scenarioNanos = new AtomicLong();
+    private final AtomicInteger scenarios = new AtomicInteger();
+
+    @Override
+    public void setEventPublisher(EventPublisher publisher) {
+        publisher.registerHandlerFor(TestRunStarted.class, event -> started = event.getInstant());
+        publisher.registerHandlerFor(TestCaseFinished.class, event -> {
+            scenarios.incrementAndGet();
+            scenarioNanos.addAndGet(event.getResult().getDuration().toNanos());
+        });
+        publisher.registerHandlerFor(TestRunFinished.class, this::writeTiming);
+    }
+
+    private void writeTiming(TestRunFinished event) {
+        int threads = Integer.parseInt(System.getProperty("parallel.threads", "1"));
+        String mode = threads > 1 ? "parallel-" + threads : "serial";
+        long wallMs = Duration.between(started, event.getInstant()).toMillis();
+        long summedMs = scenarioNanos.get() / 1_000_000;
+
+        Map<String, Object> timing = new LinkedHashMap<>();
+        timing.put("mode", mode);
+        timing.put("threads", threads);
+        timing.put("scenarios", scenarios.get());
+        timing.put("baseUrl", System.getProperty("api.base.url", "(from config)"));
+        timing.put("wallClockMs", wallMs);
+        timing.put("summedScenarioMs", summedMs);
+        timing.put("effectiveSpeedup", wallMs > 0 ? round((double) summedMs / wallMs) : 0);
+
+        try {
+            OUTPUT_DIR.mkdirs();
+            mapper.writeValue(new File(OUTPUT_DIR, mode + ".json"), timing);
+            log.info("Run timing [{}]: {} scenarios, wall clock {}ms, summed scenario time {}ms",
+                    mode, scenarios.get(), wallMs, summedMs);
+            writeComparison();
+        } catch (IOException e) {
+            log.warn("Could not write run timing: {}", e.getMessage());
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void writeComparison() throws IOException {
+        File serialFile = new File(OUTPUT_DIR, "serial.json");
+        File[] parallelFiles = OUTPUT_DIR.listFiles((dir, name) -> name.startsWith("parallel-"));
+        if (!serialFile.exists() || parallelFiles == null || parallelFiles.length == 0) return;
+
+        Map<String, Object> serial = mapper.readValue(serialFile, Map.class);
+        long serialMs = ((Number) serial.get("wallClockMs")).longValue();
+        Map<String, Object> comparison = new LinkedHashMap<>();
+        comparison.put("serialWallClockMs", serialMs);
+        for (File file : parallelFiles) {
+            Map<String, Object> parallel = mapper.readValue(file, Map.class);
+            long parallelMs = ((Number) parallel.get("wallClockMs")).longValue();
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("wallClockMs", parallelMs);
+            entry.put("speedupVsSerial", parallelMs > 0 ? round((double) serialMs / parallelMs) : 0);
+            comparison.put((String) parallel.get("mode"), entry);
+            log.info("Serial {}ms vs {} {}ms", serialMs, parallel.get("mode"), parallelMs);
+        }
+        mapper.writeValue(new File(OUTPUT_DIR, "comparison.json"), comparison);
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100) / 100.0;
+    }
+}
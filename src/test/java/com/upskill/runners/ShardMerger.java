@@ -0,0 +1,158 @@
+package com.upskill.runners;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * ShardMerger - Combines the reports of a sharded run into one, as if a single JVM had run it.
+ *
+ * Looks under every directory of the shards directory (one per shard, e.g. shards/1, shards/2)
+ * for cucumber.json files and allure-results directories. The Cucumber reports are merged per
+ * feature, since a feature's scenarios can be split across shards, with scenarios back in file
+ * order; Allure result files are uniquely named and are copied side by side, and the shards'
+ * environment.properties are merged key by key. Writes
+ * target/cucumber-reports/cucumber.json and target/allure-results, where the Jenkins report
+ * steps and allure:serve already look, and which is the history the next sharded run plans from.
+ *
+ * Arguments: shards directory, output directory.
+ */
+public class ShardMerger {
+
+    private static final Logger log = LoggerFactory.getLogger(ShardMerger.class);
+    private static final ObjectMapper mapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+    private static final String ENVIRONMENT = "environment.properties";
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            throw new IllegalArgumentException("Usage: ShardMerger <shards dir> <output dir>");
+        }
+        Path shardsDir = Paths.get(args[0]);
+        Path outputDir = Paths.get(args[1]);
+        if (!Files.isDirectory(shardsDir)) {
+            throw new IllegalArgumentException("No shard results at " + shardsDir.toAbsolutePath());
+        }
+        mergeCucumber(find(shardsDir, "cucumber.json", false), outputDir.resolve("cucumber-reports/cucumber.json"));
+        mergeAllure(find(shardsDir, "allure-results", true), outputDir.resolve("allure-results"));
+    }
+
+    private static List<Path> find(Path shardsDir, String name, boolean directory) throws IOException {
+        try (Stream<Path> paths = Files.walk(shardsDir)) {
+            return paths.filter(p -> p.getFileName().toString().equals(name))
+                    .filter(p -> directory ? Files.isDirectory(p) : Files.isRegularFile(p))
+                    .sorted()
+                    .collect(Collectors.toList());
+        }
+    }
+
+    static void mergeCucumber(List<Path> reports, Path output) throws IOException {
+        Map<String, ObjectNode> features = new TreeMap<>();
+        Map<String, List<List<JsonNode>>> scenarios = new HashMap<>();
+        for (Path report : reports) {
+            JsonNode root = mapper.readTree(report.toFile());
+            for (JsonNode feature : root) {
+                String uri = feature.path("uri").asText();
+                features.computeIfAbsent(uri, key -> ((ObjectNode) feature).deepCopy());
+                scenarios.computeIfAbsent(uri, key -> new ArrayList<>()).addAll(groupWithBackground(feature.path("elements")));
+            }
+        }
+
+        ArrayNode merged = mapper.createArrayNode();
+        int scenarioCount = 0;
+        for (Map.Entry<String, ObjectNode> entry : features.entrySet()) {
+            List<List<JsonNode>> groups = scenarios.get(entry.getKey());
+            groups.sort(Comparator.comparingInt(group -> group.get(group.size() - 1).path("line").asInt()));
+            ArrayNode elements = entry.getValue().putArray("elements");
+            groups.forEach(elements::addAll);
+            scenarioCount += groups.size();
+            merged.add(entry.getValue());
+        }
+        Files.createDirectories(output.getParent());
+        mapper.writeValue(output.toFile(), merged);
+        log.info("Merged {} Cucumber reports into {}: {} features, {} scenarios", reports.size(), output, features.size(), scenarioCount);
+    }
+
+    /**
+     * Cucumber writes a feature's background as its own element before every scenario; keeps
+     * each background with the scenario it ran for so sorting by line does not separate them.
+     */
+    private static List<List<JsonNode>> groupWithBackground(JsonNode elements) {
+        List<List<JsonNode>> groups = new ArrayList<>();
+        List<JsonNode> current = new ArrayList<>();
+        for (JsonNode element : elements) {
+            current.add(element);
+            if (!"background".equals(element.path("type").asText())) {
+                groups.add(current);
+                current = new ArrayList<>();
+            }
+        }
+        return groups;
+    }
+
+    static void mergeAllure(List<Path> resultDirs, Path output) throws IOException {
+        Files.createDirectories(output);
+        Map<String, String> environment = new LinkedHashMap<>();
+        int copied = 0;
+        for (Path dir : resultDirs) {
+            try (Stream<Path> files = Files.list(dir)) {
+                for (Path file : (Iterable<Path>) files.filter(Files::isRegularFile)::iterator) {
+                    if (file.getFileName().toString().equals(ENVIRONMENT)) {
+                        mergeEnvironment(file, environment);
+                        continue;
+                    }
+                    // Results, containers and attachments are named by UUID; the few fixed names
+                    // (categories.json, executor.json) are the same on every shard.
+                    Files.copy(file, output.resolve(file.getFileName().toString()), StandardCopyOption.REPLACE_EXISTING);
+                    copied++;
+                }
+            }
+        }
+        if (!environment.isEmpty()) {
+            Properties merged = new Properties();
+            merged.putAll(environment);
+            try (Writer out = Files.newBufferedWriter(output.resolve(ENVIRONMENT), StandardCharsets.UTF_8)) {
+                merged.store(out, null);
+            }
+        }
+        log.info("Copied {} Allure result files from {} shards into {}", copied, resultDirs.size(), output);
+    }
+
+    /**
+     * Values that differ between shards (e.g. each shard's API metrics totals) are kept side by
+     * side in shard order, "a, b", instead of the last shard overwriting the others.
+     */
+    private static void mergeEnvironment(Path file, Map<String, String> environment) throws IOException {
+        Properties shard = new Properties();
+        try (Reader in = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            shard.load(in);
+        }
+        for (String key : new TreeSet<>(shard.stringPropertyNames())) {
+            String value = shard.getProperty(key);
+            environment.merge(key, value, (existing, added) -> existing.equals(added) ? existing : existing + ", " + added);
+        }
+    }
+}
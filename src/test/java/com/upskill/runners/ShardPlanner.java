@@ -0,0 +1,292 @@
+package com.upskill.runners;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.cucumber.gherkin.GherkinParser;
+import io.cucumber.messages.types.Envelope;
+import io.cucumber.messages.types.Examples;
+import io.cucumber.messages.types.FeatureChild;
+import io.cucumber.messages.types.Pickle;
+import io.cucumber.messages.types.PickleTag;
+import io.cucumber.messages.types.RuleChild;
+import io.cucumber.messages.types.Scenario;
+import io.cucumber.messages.types.TableRow;
+import io.cucumber.tagexpressions.Expression;
+import io.cucumber.tagexpressions.TagExpressionParser;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * ShardPlanner - Picks the scenarios one shard of a split run executes (mvn test -Dshard=i/n).
+ *
+ * Every node parses the same feature files and applies the same tag expression, so every node
+ * computes the same plan and the shards cover the selection exactly once. Scenarios with a
+ * duration in an earlier cucumber.json are bin-packed longest first onto the least loaded shard;
+ * scenarios without history go to a shard chosen by a stable hash of their uri and name and are
+ * counted at the median known duration. Writes target/shards/shard.txt (a Cucumber rerun file
+ * that the shard profile passes as cucumber.features) and target/shards/plan.json.
+ *
+ * Arguments: shard ("i/n"), tag expression, features directory, history file, output directory.
+ */
+public class ShardPlanner {
+
+    private static final Logger log = LoggerFactory.getLogger(ShardPlanner.class);
+    private static final ObjectMapper mapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    /** Estimate for every scenario when there is no history at all. */
+    private static final long DEFAULT_NANOS = 1_000_000_000L;
+
+    static final class PlannedScenario {
+        final String uri;
+        final int line;
+        final String name;
+        long nanos;
+        boolean fromHistory;
+        int shard;
+
+        PlannedScenario(String uri, int line, String name) {
+            this.uri = uri;
+            this.line = line;
+            this.name = name;
+        }
+
+        String key() {
+            return uri + ":" + line;
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 5) {
+            throw new IllegalArgumentException("Usage: ShardPlanner <i/n> <tag expression> <features dir> <history file> <output dir>");
+        }
+        int[] shard = parseShard(args[0]);
+        List<PlannedScenario> scenarios = discover(Paths.get(args[2]), args[1]);
+        Map<String, Long> history = readHistory(Paths.get(args[3]));
+        long[] loads = assign(scenarios, history, shard[1]);
+        write(Paths.get(args[4]), scenarios, loads, shard[0], shard[1]);
+    }
+
+    /**
+     * Parses "i/n" (1-based) into {i, n}.
+     */
+    static int[] parseShard(String value) {
+        String[] parts = value.trim().split("/");
+        if (parts.length != 2) {
+            throw new IllegalArgumentException("shard must look like i/n, e.g. 2/4, but was: " + value);
+        }
+        int index = Integer.parseInt(parts[0].trim());
+        int total = Integer.parseInt(parts[1].trim());
+        if (total < 1 || index < 1 || index > total) {
+            throw new IllegalArgumentException("shard index must be between 1 and the shard count: " + value);
+        }
+        return new int[]{index, total};
+    }
+
+    /**
+     * Every pickle (scenario, or outline example row) under the features directory that matches
+     * the tag expression, in file and line order.
+     */
+    static List<PlannedScenario> discover(Path featuresDir, String tagExpression) throws IOException {
+        Expression tags = tagExpression == null || tagExpression.isBlank() ? null : TagExpressionParser.parse(tagExpression);
+        GherkinParser parser = GherkinParser.builder().includeSource(false).build();
+        List<Path> features;
+        try (Stream<Path> files = Files.walk(featuresDir)) {
+            features = files.filter(p -> p.toString().endsWith(".feature")).sorted().collect(Collectors.toList());
+        }
+
+        List<PlannedScenario> scenarios = new ArrayList<>();
+        for (Path feature : features) {
+            String uri = feature.toString().replace('\\', '/');
+            Map<String, Integer> lines = new HashMap<>();
+            List<Envelope> envelopes;
+            try (Stream<Envelope> stream = parser.parse(feature)) {
+                envelopes = stream.collect(Collectors.toList());
+            }
+            for (Envelope envelope : envelopes) {
+                envelope.getParseError().ifPresent(error ->
+                        log.warn("Could not parse {}: {}", uri, error.getMessage()));
+                envelope.getGherkinDocument().flatMap(document -> document.getFeature()).ifPresent(f -> {
+                    for (FeatureChild child : f.getChildren()) {
+                        child.getScenario().ifPresent(s -> collectLines(s, lines));
+                        child.getRule().ifPresent(rule -> {
+                            for (RuleChild ruleChild : rule.getChildren()) {
+                                ruleChild.getScenario().ifPresent(s -> collectLines(s, lines));
+                            }
+                        });
+                    }
+                });
+            }
+            for (Envelope envelope : envelopes) {
+                if (envelope.getPickle().isEmpty()) continue;
+                Pickle pickle = envelope.getPickle().get();
+                List<String> pickleTags = pickle.getTags().stream().map(PickleTag::getName).collect(Collectors.toList());
+                if (tags != null && !tags.evaluate(pickleTags)) continue;
+                // The last AST node is the example row for outlines and the scenario otherwise,
+                // which is the line Cucumber reports and accepts in rerun files.
+                List<String> nodes = pickle.getAstNodeIds();
+                Integer line = lines.get(nodes.get(nodes.size() - 1));
+                if (line == null) continue;
+                scenarios.add(new PlannedScenario(uri, line, pickle.getName()));
+            }
+        }
+        return scenarios;
+    }
+
+    private static void collectLines(Scenario scenario, Map<String, Integer> lines) {
+        lines.put(scenario.getId(), scenario.getLocation().getLine().intValue());
+        for (Examples examples : scenario.getExamples()) {
+            for (TableRow row : examples.getTableBody()) {
+                lines.put(row.getId(), row.getLocation().getLine().intValue());
+            }
+        }
+    }
+
+    /**
+     * Scenario durations from a Cucumber JSON report, keyed by "uri:line" and by "uri|name".
+     * A scenario's duration is its hooks, its steps and the background steps run before it.
+     * Names shared by several scenarios in one file are dropped from the name index.
+     */
+    static Map<String, Long> readHistory(Path report) {
+        Map<String, Long> history = new HashMap<>();
+        Map<String, Long> byName = new HashMap<>();
+        if (!Files.isRegularFile(report)) {
+            log.info("No scenario history at {} - shards are assigned by hash", report);
+            return history;
+        }
+        try {
+            JsonNode features = mapper.readTree(report.toFile());
+            for (JsonNode feature : features) {
+                String uri = feature.path("uri").asText().replaceFirst("^file:", "").replace('\\', '/');
+                long backgroundNanos = 0;
+                for (JsonNode element : feature.path("elements")) {
+                    long nanos = sumDurations(element.path("before")) + sumDurations(element.path("steps"))
+                            + sumDurations(element.path("after"));
+                    if ("background".equals(element.path("type").asText())) {
+                        backgroundNanos = nanos;
+                        continue;
+                    }
+                    nanos += backgroundNanos;
+                    backgroundNanos = 0;
+                    history.put(uri + ":" + element.path("line").asInt(), nanos);
+                    byName.merge(uri + "|" + element.path("name").asText(), nanos, (first, second) -> -1L);
+                }
+            }
+        } catch (IOException e) {
+            log.warn("Could not read scenario history from {}: {} - shards are assigned by hash", report, e.getMessage());
+            return new HashMap<>();
+        }
+        byName.values().removeIf(nanos -> nanos < 0);
+        history.putAll(byName);
+        return history;
+    }
+
+    private static long sumDurations(JsonNode entries) {
+        long nanos = 0;
+        for (JsonNode entry : entries) {
+            nanos += entry.path("result").path("duration").asLong(0);
+        }
+        return nanos;
+    }
+
+    /**
+     * Sets every scenario's shard (0-based) and returns the estimated load per shard.
+     * Scenarios without history are placed first, by hash, so the bin packing of the known
+     * scenarios evens out around them.
+     */
+    static long[] assign(List<PlannedScenario> scenarios, Map<String, Long> history, int shards) {
+        List<PlannedScenario> known = new ArrayList<>();
+        List<PlannedScenario> unknown = new ArrayList<>();
+        for (PlannedScenario scenario : scenarios) {
+            Long nanos = history.get(scenario.key());
+            if (nanos == null) nanos = history.get(scenario.uri + "|" + scenario.name);
+            if (nanos != null) {
+                scenario.nanos = nanos;
+                scenario.fromHistory = true;
+                known.add(scenario);
+            } else {
+                unknown.add(scenario);
+            }
+        }
+
+        long[] loads = new long[shards];
+        long estimate = median(known);
+        for (PlannedScenario scenario : unknown) {
+            scenario.nanos = estimate;
+            scenario.shard = Math.floorMod((scenario.uri + "|" + scenario.name).hashCode(), shards);
+            loads[scenario.shard] += estimate;
+        }
+
+        known.sort(Comparator.comparingLong((PlannedScenario s) -> s.nanos).reversed()
+                .thenComparing(s -> s.uri).thenComparingInt(s -> s.line));
+        for (PlannedScenario scenario : known) {
+            int lightest = 0;
+            for (int i = 1; i < shards; i++) {
+                if (loads[i] < loads[lightest]) lightest = i;
+            }
+            scenario.shard = lightest;
+            loads[lightest] += scenario.nanos;
+        }
+        log.info("Planned {} scenarios on {} shards: {} from history, {} by hash at {} ms each",
+                scenarios.size(), shards, known.size(), unknown.size(), estimate / 1_000_000);
+        return loads;
+    }
+
+    private static long median(List<PlannedScenario> known) {
+        if (known.isEmpty()) return DEFAULT_NANOS;
+        long[] nanos = known.stream().mapToLong(s -> s.nanos).sorted().toArray();
+        return nanos[nanos.length / 2];
+    }
+
+    private static void write(Path outputDir, List<PlannedScenario> scenarios, long[] loads, int index, int total) throws IOException {
+        Files.createDirectories(outputDir);
+        List<String> rerunLines = scenarios.stream()
+                .filter(s -> s.shard == index - 1)
+                .collect(Collectors.groupingBy(s -> s.uri, LinkedHashMap::new,
+                        Collectors.mapping(s -> String.valueOf(s.line), Collectors.joining(":"))))
+                .entrySet().stream()
+                .map(e -> e.getKey() + ":" + e.getValue())
+                .collect(Collectors.toList());
+        Path rerunFile = outputDir.resolve("shard.txt");
+        Files.write(rerunFile, rerunLines, StandardCharsets.UTF_8);
+
+        List<Map<String, Object>> shardPlans = new ArrayList<>();
+        for (int i = 0; i < total; i++) {
+            int shard = i;
+            Map<String, Object> plan = new LinkedHashMap<>();
+            plan.put("shard", (i + 1) + "/" + total);
+            plan.put("estimatedMillis", loads[i] / 1_000_000);
+            plan.put("scenarios", scenarios.stream().filter(s -> s.shard == shard).map(s -> {
+                Map<String, Object> entry = new LinkedHashMap<>();
+                entry.put("location", s.key());
+                entry.put("name", s.name);
+                entry.put("estimatedMillis", s.nanos / 1_000_000);
+                entry.put("fromHistory", s.fromHistory);
+                return entry;
+            }).collect(Collectors.toList()));
+            shardPlans.add(plan);
+        }
+        mapper.writeValue(outputDir.resolve("plan.json").toFile(), shardPlans);
+
+        long count = scenarios.stream().filter(s -> s.shard == index - 1).count();
+        log.info("Shard {}/{} runs {} scenarios (estimated {} ms; all shards: {}) - {}", index, total, count,
+                loads[index - 1] / 1_000_000,
+                Arrays.stream(loads).mapToObj(l -> String.valueOf(l / 1_000_000)).collect(Collectors.joining(", ")),
+                rerunFile);
+    }
+}
@@ -12,7 +12,9 @@ import org.junit.runner.RunWith;
                 "pretty",
                 "html:target/cucumber-reports/cucumber.html",
                 "json:target/cucumber-reports/cucumber.json",
-                "io.qameta.allure.cucumber7jvm.AllureCucumber7Jvm"
+                "io.qameta.allure.cucumber7jvm.AllureCucumber7Jvm",
+                "com.upskill.plugins.RunTimingPlugin",
+                "com.upskill.plugins.ApiMetricsPlugin"
         },
         monochrome = true,
         tags = "@all"
@@ -1,6 +1,12 @@
 package com.upskill.stepdefinitions;
 
 import com.upskill.api.ApiClient;
+import com.upskill.api.ApiMetrics;
+import com.upskill.api.JdkHttpTransport;
+import com.upskill.load.LoadRequest;
+import com.upskill.utils.ArrayCheckResult;
+import com.upskill.utils.ArrayRules;
+import com.upskill.utils.JsonUtils;
 import com.upskill.utils.TestContext;
 import io.cucumber.datatable.DataTable;
 import io.cucumber.java.en.And;
@@ -12,8 +18,9 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.HashMap;
-import java.util.List;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import static org.junit.Assert.*;
 
@@ -98,6 +105,58 @@ public class ApiSteps {
         TestContext.setResponse(response);
     }
 
+    /**
+     * The request set up by the "I prepare ..." steps, as a value that load runs can resend from any thread.
+     */
+    static LoadRequest preparedRequest() {
+        String method = TestContext.get("method");
+        assertNotNull("No request prepared", method);
+        boolean hasBody = method.equals("POST") || method.equals("PUT") || method.equals("PATCH");
+        return new LoadRequest(method, TestContext.get("endpoint"),
+                method.equals("GET") ? TestContext.get("queryParams") : null,
+                hasBody ? TestContext.get("body") : null);
+    }
+
+    @When("I send these requests concurrently")
+    public void iSendTheseRequestsConcurrently(DataTable dataTable) {
+        Map<String, CompletableFuture<Response>> pending = new LinkedHashMap<>();
+        for (Map<String, String> row : dataTable.asMaps(String.class, String.class)) {
+            String name = row.get("name");
+            String method = row.get("method");
+            String endpoint = row.get("endpoint");
+            String body = row.get("body");
+            log.info("Sending {} {} concurrently as '{}'", method, endpoint, name);
+            switch (method) {
+                case "GET":
+                    pending.put(name, ApiClient.async().get(endpoint));
+                    break;
+                case "POST":
+                    pending.put(name, ApiClient.async().post(endpoint, body));
+                    break;
+                case "PUT":
+                    pending.put(name, ApiClient.async().put(endpoint, body));
+                    break;
+                case "PATCH":
+                    pending.put(name, ApiClient.async().patch(endpoint, body));
+                    break;
+                case "DELETE":
+                    pending.put(name, ApiClient.async().delete(endpoint));
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown HTTP method: " + method);
+            }
+        }
+        CompletableFuture.allOf(pending.values().toArray(new CompletableFuture<?>[0])).join();
+        pending.forEach((name, future) -> TestContext.set(name, future.join()));
+    }
+
+    @And("I use the response stored as {string}")
+    public void iUseTheResponseStoredAs(String name) {
+        Response response = TestContext.get(name);
+        assertNotNull("No response stored as '" + name + "'", response);
+        TestContext.setResponse(response);
+    }
+
     @Then("the response status code should be {int}")
     public void theResponseStatusCodeShouldBe(int expected) {
         assertEquals("HTTP Status Code", expected, TestContext.getResponse().getStatusCode());
@@ -105,25 +164,25 @@ public class ApiSteps {
 
     @Then("the response field {string} should be {string}")
     public void theResponseFieldShouldBeString(String field, String expected) {
-        String actual = TestContext.getResponse().jsonPath().getString(field);
+        String actual = TestContext.getDocument().getString(field);
         assertEquals("Field: " + field, expected, actual);
     }
 
     @Then("the response field {string} should be {int}")
     public void theResponseFieldShouldBeInt(String field, int expected) {
-        int actual = TestContext.getResponse().jsonPath().getInt(field);
+        int actual = TestContext.getDocument().getInt(field);
         assertEquals("Field: " + field, expected, actual);
     }
 
     @Then("the response field {string} should not be null")
     public void theResponseFieldShouldNotBeNull(String field) {
         assertNotNull("Field '" + field + "' should not be null",
-                TestContext.getResponse().jsonPath().get(field));
+                TestContext.getDocument().get(field));
     }
 
     @And("I extract and store the field {string} as {string}")
     public void iExtractAndStoreTheField(String field, String key) {
-        Object value = TestContext.getResponse().jsonPath().get(field);
+        Object value = TestContext.getDocument().get(field);
         log.info("Extracted '{}' = {} and stored as '{}'", field, value, key);
         TestContext.set(key, value);
     }
@@ -136,73 +195,105 @@ public class ApiSteps {
 
     @Then("the response should contain a list of users")
     public void theResponseShouldContainAListOfUsers() {
-        List<?> list = TestContext.getResponse().jsonPath().getList("$");
-        assertNotNull("Response should be a list", list);
-        assertFalse("User list should not be empty", list.isEmpty());
-        log.info("Response contains {} users", list.size());
+        ArrayCheckResult result = assertArray(ArrayRules.create().minItems(1), "User list should not be empty");
+        log.info("Response contains {} users", result.getElementsChecked());
     }
 
     @Then("the response should contain a list of posts")
     public void theResponseShouldContainAListOfPosts() {
-        List<?> list = TestContext.getResponse().jsonPath().getList("$");
-        assertNotNull("Response should be a list", list);
-        assertFalse("Post list should not be empty", list.isEmpty());
+        assertArray(ArrayRules.create().minItems(1), "Post list should not be empty");
     }
 
     @Then("the response should contain a list of comments")
     public void theResponseShouldContainAListOfComments() {
-        List<?> list = TestContext.getResponse().jsonPath().getList("$");
-        assertNotNull("Response should be a list", list);
-        assertFalse("Comment list should not be empty", list.isEmpty());
+        assertArray(ArrayRules.create().minItems(1), "Comment list should not be empty");
     }
 
     @Then("the list should have at least {int} items")
     public void theListShouldHaveAtLeastItems(int min) {
-        List<?> list = TestContext.getResponse().jsonPath().getList("$");
-        assertTrue("List should have >= " + min + " items, got " + list.size(), list.size() >= min);
+        assertArray(ArrayRules.create().minItems(min), "List should have >= " + min + " items");
     }
 
     @Then("each user should have fields {string}, {string}, {string}, {string}")
     public void eachUserShouldHaveFields(String f1, String f2, String f3, String f4) {
-        List<Map<String, Object>> items = TestContext.getResponse().jsonPath().getList("$");
-        for (Map<String, Object> item : items) {
-            assertNotNull("Missing: " + f1, item.get(f1));
-            assertNotNull("Missing: " + f2, item.get(f2));
-            assertNotNull("Missing: " + f3, item.get(f3));
-            assertNotNull("Missing: " + f4, item.get(f4));
-        }
+        assertArray(ArrayRules.create().requireFields(f1, f2, f3, f4), "Missing field");
     }
 
     @Then("each comment should have fields {string}, {string}, {string}, {string}, {string}")
     public void eachCommentShouldHaveFields(String f1, String f2, String f3, String f4, String f5) {
-        List<Map<String, Object>> items = TestContext.getResponse().jsonPath().getList("$");
-        for (Map<String, Object> item : items) {
-            assertNotNull("Missing: " + f1, item.get(f1));
-            assertNotNull("Missing: " + f2, item.get(f2));
-            assertNotNull("Missing: " + f3, item.get(f3));
-            assertNotNull("Missing: " + f4, item.get(f4));
-            assertNotNull("Missing: " + f5, item.get(f5));
-        }
+        assertArray(ArrayRules.create().requireFields(f1, f2, f3, f4, f5), "Missing field");
     }
 
     @Then("all {string} values in the list should be {int}")
     public void allFieldValuesInTheListShouldBe(String field, int expected) {
-        List<Integer> values = TestContext.getResponse().jsonPath().getList(field, Integer.class);
-        for (Integer val : values) {
-            assertEquals("Field '" + field + "' mismatch", expected, val.intValue());
+        if (!isStreamable(field)) {
+            for (Number value : TestContext.getDocument().getList(field, Number.class)) {
+                assertNotNull("Field '" + field + "' missing", value);
+                assertEquals("Field '" + field + "' mismatch", expected, value.intValue());
+            }
+            return;
         }
+        assertArray(ArrayRules.create().fieldEquals(field, expected), "Field '" + field + "' mismatch");
+    }
+
+    @Then("all {string} values in the list should be between {int} and {int}")
+    public void allFieldValuesInTheListShouldBeBetween(String field, int min, int max) {
+        if (!isStreamable(field)) {
+            for (Number value : TestContext.getDocument().getList(field, Number.class)) {
+                assertNotNull("Field '" + field + "' missing", value);
+                assertTrue("Field '" + field + "' = " + value + " is not between " + min + " and " + max,
+                        value.doubleValue() >= min && value.doubleValue() <= max);
+            }
+            return;
+        }
+        assertArray(ArrayRules.create().fieldBetween(field, min, max), "Field '" + field + "' out of range");
+    }
+
+    /**
+     * Plain and dotted field names ("address.city") are checked in one streaming pass; other
+     * GPath expressions ("tags[0]", "items*.id") are evaluated on the parsed document.
+     */
+    private static boolean isStreamable(String field) {
+        return field.matches("[\\w$-]+(\\.[\\w$-]+)*");
+    }
+
+    /**
+     * Check the current response, a JSON array, element by element without building a list;
+     * fails at the first bad element.
+     */
+    private static ArrayCheckResult assertArray(ArrayRules rules, String message) {
+        ArrayCheckResult result = JsonUtils.checkArray(TestContext.getResponse(), rules);
+        assertTrue(message + ": " + result.getFailure(), result.isPassed());
+        return result;
     }
 
     @And("the first user's {string} should be {string}")
     public void theFirstUserFieldShouldBe(String field, String expected) {
-        String actual = TestContext.getResponse().jsonPath().getString("[0]." + field);
+        String actual = TestContext.getDocument().getString("[0]." + field);
         assertEquals("First user's " + field, expected, actual);
     }
 
+    @Then("the p{int} response time across the run should be below {int} milliseconds")
+    public void theRunWidePercentileShouldBeBelow(int percentile, int maxMs) {
+        assertRunWidePercentile(ApiMetrics.TOTAL, percentile, maxMs);
+    }
+
+    @Then("the p{int} response time for {string} across the run should be below {int} milliseconds")
+    public void theRunWideEndpointPercentileShouldBeBelow(int percentile, String endpoint, int maxMs) {
+        assertRunWidePercentile(endpoint, percentile, maxMs);
+    }
+
+    private static void assertRunWidePercentile(String key, int percentile, int maxMs) {
+        double actual = ApiMetrics.percentileMillis(key, percentile);
+        log.info("{} p{} across {} calls: {}ms (max allowed: {}ms)", key, percentile, ApiMetrics.count(key), actual, maxMs);
+        assertTrue(key + " p" + percentile + " " + actual + "ms exceeded " + maxMs + "ms", actual < maxMs);
+    }
+
     @Then("the response time should be less than {int} milliseconds")
     public void theResponseTimeShouldBeLessThan(int maxMs) {
         long actual = TestContext.getResponse().getTime();
         log.info("Response time: {}ms (max allowed: {}ms)", actual, maxMs);
+        assertTrue("Response time is not available from api.transport=" + JdkHttpTransport.name(), actual >= 0);
         assertTrue("Response time " + actual + "ms exceeded " + maxMs + "ms", actual < maxMs);
     }
 }
@@ -1,12 +1,23 @@
 package com.upskill.stepdefinitions;
 
+import com.upskill.db.BulkLoadResult;
 import com.upskill.db.DatabaseUtil;
+import com.upskill.db.Reconciliation;
+import com.upskill.db.ReconciliationResult;
 import com.upskill.utils.TestContext;
+import io.cucumber.datatable.DataTable;
 import io.cucumber.java.en.Given;
 import io.cucumber.java.en.Then;
+import io.qameta.allure.Allure;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 
@@ -34,6 +45,22 @@ public class DatabaseSteps {
         }
     }
 
+    /**
+     * One pass over the whole response array and one streaming query, instead of a query per
+     * field per record. Fields are comma-separated, each "name" or "jsonPath=column".
+     */
+    @Then("if database is available, the response list should match table {string} on {string} for fields {string}")
+    public void responseListShouldMatchTable(String table, String key, String fields) {
+        if (!DatabaseUtil.isAvailable()) {
+            log.warn("Database not available - skipping reconciliation. This is expected in demo mode.");
+            return;
+        }
+        ReconciliationResult result = Reconciliation.reconcile(TestContext.getResponse().asByteArray(), table, key,
+                Arrays.asList(fields.split(",")));
+        Allure.addAttachment("Reconciliation with " + table, "text/plain", result.summary());
+        assertTrue(result.summary(), result.isConsistent());
+    }
+
     @Given("I create test data in database for user {string}")
     public void iCreateTestDataInDatabase(String username) {
         if (!DatabaseUtil.isAvailable()) {
@@ -54,4 +81,75 @@ public class DatabaseSteps {
         int rows = DatabaseUtil.executeUpdate("DELETE FROM users WHERE username = ?", username);
         log.info("Deleted {} rows for user '{}'", rows, username);
     }
+
+    @Given("I seed table {string} with rows:")
+    public void iSeedTableWithRows(String table, DataTable dataTable) {
+        if (!DatabaseUtil.isAvailable()) {
+            log.warn("Database not available - skipping bulk seeding.");
+            return;
+        }
+        List<List<String>> cells = dataTable.cells();
+        List<String> columns = cells.get(0);
+        List<Object[]> rows = new ArrayList<>();
+        for (List<String> row : cells.subList(1, cells.size())) {
+            rows.add(row.toArray());
+        }
+        String placeholders = String.join(", ", Collections.nCopies(columns.size(), "?"));
+        String sql = "INSERT INTO " + table + " (" + String.join(", ", columns) + ") VALUES (" + placeholders + ")";
+        BulkLoadResult result = DatabaseUtil.executeBatch(sql, rows);
+        log.info("Seeded table '{}': {}", table, result);
+        assertEquals("Rows seeded into " + table, rows.size(), result.getRows());
+    }
+
+    @Given("I seed table {string} from CSV resource {string}")
+    public void iSeedTableFromCsvResource(String table, String resource) throws Exception {
+        if (!DatabaseUtil.isAvailable()) {
+            log.warn("Database not available - skipping bulk seeding.");
+            return;
+        }
+        try (InputStream in = getClass().getClassLoader().getResourceAsStream(resource)) {
+            assertNotNull("CSV resource not found: " + resource, in);
+            BulkLoadResult result = DatabaseUtil.copyIn(table, new InputStreamReader(in, StandardCharsets.UTF_8));
+            log.info("Seeded table '{}' from {}: {}", table, resource, result);
+            assertTrue("No rows seeded from " + resource, result.getRows() > 0);
+        }
+    }
+
+    @Then("I delete test data from database for users matching {string}")
+    public void iDeleteTestDataForUsersMatching(String pattern) {
+        if (!DatabaseUtil.isAvailable()) {
+            log.warn("Database not available - skipping test data cleanup.");
+            return;
+        }
+        int rows = DatabaseUtil.executeUpdate("DELETE FROM users WHERE username LIKE ?", pattern);
+        log.info("Deleted {} rows for users matching '{}'", rows, pattern);
+    }
+
+    @Given("I set database savepoint {string}")
+    public void iSetDatabaseSavepoint(String name) {
+        if (!DatabaseUtil.isAvailable()) {
+            log.warn("Database not available - skipping savepoint.");
+            return;
+        }
+        DatabaseUtil.setSavepoint(name);
+    }
+
+    @Then("I roll back the database to savepoint {string}")
+    public void iRollBackTheDatabaseToSavepoint(String name) {
+        if (!DatabaseUtil.isAvailable()) {
+            log.warn("Database not available - skipping rollback to savepoint.");
+            return;
+        }
+        DatabaseUtil.rollbackToSavepoint(name);
+    }
+
+    @Then("the database should have {int} users matching {string}")
+    public void theDatabaseShouldHaveUsersMatching(int expected, String pattern) {
+        if (!DatabaseUtil.isAvailable()) {
+            log.warn("Database not available - skipping row count check.");
+            return;
+        }
+        Object count = DatabaseUtil.getSingleValue("SELECT COUNT(*) FROM users WHERE username LIKE ?", pattern);
+        assertEquals("Users matching " + pattern, expected, ((Number) count).intValue());
+    }
 }
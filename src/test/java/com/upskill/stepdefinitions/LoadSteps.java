@@ -0,0 +1,103 @@
+package com.upskill.stepdefinitions;
+
+import com.upskill.api.ResponseCapture;
+import com.upskill.load.EndpointStats;
+import com.upskill.load.LoadProfile;
+import com.upskill.load.LoadReport;
+import com.upskill.load.LoadRequest;
+import com.upskill.load.LoadRunner;
+import com.upskill.utils.JsonUtils;
+import com.upskill.utils.TestContext;
+import io.cucumber.datatable.DataTable;
+import io.cucumber.java.en.Then;
+import io.cucumber.java.en.When;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+public class LoadSteps {
+
+    private static final String REPORT = "loadReport";
+
+    @When("I run the prepared request with {int} users for {int} seconds")
+    public void iRunThePreparedRequestWithUsers(int users, int seconds) {
+        run(List.of(ApiSteps.preparedRequest()), LoadProfile.closed(users, Duration.ofSeconds(seconds)));
+    }
+
+    @When("I run the prepared request at {double} requests per second for {int} seconds")
+    public void iRunThePreparedRequestAtRate(double rate, int seconds) {
+        run(List.of(ApiSteps.preparedRequest()), LoadProfile.open(rate, Duration.ofSeconds(seconds)));
+    }
+
+    @When("I run this flow with {int} users for {int} seconds:")
+    public void iRunThisFlowWithUsers(int users, int seconds, DataTable flow) {
+        run(toFlow(flow), LoadProfile.closed(users, Duration.ofSeconds(seconds)));
+    }
+
+    @When("I run this flow at {double} iterations per second for {int} seconds:")
+    public void iRunThisFlowAtRate(double rate, int seconds, DataTable flow) {
+        run(toFlow(flow), LoadProfile.open(rate, Duration.ofSeconds(seconds)));
+    }
+
+    @Then("the load test error rate should be below {double} percent")
+    public void theLoadTestErrorRateShouldBeBelow(double maxPercent) {
+        EndpointStats total = report().getTotal();
+        double actual = total.getErrorRate() * 100;
+        assertTrue(String.format("Error rate %.2f%% (%d of %d) exceeded %.2f%%",
+                actual, total.getErrors(), total.getCount(), maxPercent), actual < maxPercent);
+    }
+
+    @Then("the load test p{int} latency should be below {int} milliseconds")
+    public void theLoadTestPercentileShouldBeBelow(int percentile, int maxMs) {
+        assertPercentile(report().getTotal(), percentile, maxMs);
+    }
+
+    @Then("the load test p{int} latency for {string} should be below {int} milliseconds")
+    public void theLoadTestEndpointPercentileShouldBeBelow(int percentile, String endpoint, int maxMs) {
+        assertPercentile(report().getEndpoint(endpoint), percentile, maxMs);
+    }
+
+    @Then("the load test throughput should be at least {double} requests per second")
+    public void theLoadTestThroughputShouldBeAtLeast(double min) {
+        LoadReport report = report();
+        double actual = report.throughput(report.getTotal());
+        assertTrue(String.format("Throughput %.1f req/s below %.1f req/s", actual, min), actual >= min);
+    }
+
+    // ==================== Helpers ====================
+
+    private static void run(List<LoadRequest> flow, LoadProfile profile) {
+        LoadReport report = LoadRunner.run(flow, profile);
+        TestContext.set(REPORT, report);
+        if (ResponseCapture.attachmentsEnabled()) {
+            ResponseCapture.attach("Load report", "text/plain", ".txt", report.format());
+            ResponseCapture.attach("Load report (JSON)", "application/json", ".json", JsonUtils.toJson(report.toMap()));
+        }
+    }
+
+    private static List<LoadRequest> toFlow(DataTable table) {
+        List<LoadRequest> flow = new ArrayList<>();
+        for (Map<String, String> row : table.asMaps(String.class, String.class)) {
+            String status = row.get("status");
+            flow.add(new LoadRequest(row.get("method"), row.get("endpoint"), null, row.get("body"),
+                    status == null || status.isBlank() ? null : Integer.valueOf(status)));
+        }
+        return flow;
+    }
+
+    private static void assertPercentile(EndpointStats stats, int percentile, int maxMs) {
+        double actual = stats.percentileMillis(percentile);
+        assertTrue(String.format("%s p%d latency %.1fms exceeded %dms", stats.getKey(), percentile, actual, maxMs),
+                actual < maxMs);
+    }
+
+    private static LoadReport report() {
+        LoadReport report = TestContext.get(REPORT);
+        assertNotNull("No load run in this scenario", report);
+        return report;
+    }
+}
@@ -0,0 +1,263 @@
+package com.upskill.stub;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ApiStub - Local stand-in for JSONPlaceholder, so runs (e.g. the serial vs parallel timing
+ * comparison) measure the framework instead of public-API latency and rate limits.
+ *
+ * Serves 10 users, 100 posts (10 per user) and 500 comments (5 per post), with user 1 matching
+ * the real API:
+ *   GET /users, /posts, /comments                  list, filtered by any query param (?userId=1)
+ *   GET /users/{id}/posts, /posts/{id}/comments    nested lists
+ *   GET /{resource}/{id}                           one record, 404 if unknown
+ *   POST /{resource}                               201 with the body plus a new id
+ *   PUT /{resource}/{id}, PATCH /{resource}/{id}    200 with the replaced or merged record
+ *   DELETE /{resource}/{id}                        200 {}
+ * Nothing is stored, as with JSONPlaceholder. Every response waits latencyMs first, a fixed
+ * stand-in for network latency that keeps timings reproducible.
+ *
+ * Started by Hooks when stub.port is set (mvn test -P stub), or standalone:
+ * java -cp target/test-classes:... com.upskill.stub.ApiStub [port] [latencyMs]
+ */
+public final class ApiStub {
+
+    private static final Logger log = LoggerFactory.getLogger(ApiStub.class);
+    private static final ObjectMapper mapper = new ObjectMapper();
+
+    private static ApiStub running;
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final long latencyMs;
+    private final Map<String, List<ObjectNode>> resources = new LinkedHashMap<>();
+
+    private ApiStub(HttpServer server, ExecutorService executor, long latencyMs) {
+        this.server = server;
+        this.executor = executor;
+        this.latencyMs = latencyMs;
+        resources.put("users", users());
+        resources.put("posts", posts());
+        resources.put("comments", comments());
+    }
+
+    public static void main(String[] args) throws IOException {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : 18080;
+        long latencyMs = args.length > 1 ? Long.parseLong(args[1]) : 0;
+        ApiStub stub = start(port, latencyMs, false);
+        log.info("API stub serving {} - stop with Ctrl+C", stub.baseUrl());
+    }
+
+    /**
+     * Starts the stub once per JVM; later calls (e.g. from a second runner) return the same one.
+     */
+    public static synchronized ApiStub startOnce(int port, long latencyMs) throws IOException {
+        if (running == null) {
+            running = start(port, latencyMs, true);
+            log.info("API stub started at {} ({} ms latency per request)", running.baseUrl(), latencyMs);
+        }
+        return running;
+    }
+
+    private static ApiStub start(int port, long latencyMs, boolean daemon) throws IOException {
+        // Without TCP_NODELAY, small responses wait on delayed ACKs (~40 ms per request)
+        System.setProperty("sun.net.httpserver.nodelay", "true");
+        HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 256);
+        ExecutorService executor = Executors.newCachedThreadPool(r -> {
+            Thread t = new Thread(r, "api-stub");
+            t.setDaemon(daemon);
+            return t;
+        });
+        ApiStub stub = new ApiStub(server, executor, latencyMs);
+        server.createContext("/", stub::handle);
+        server.setExecutor(executor);
+        server.start();
+        if (daemon) {
+            Runtime.getRuntime().addShutdownHook(new Thread(stub::stop, "api-stub-stop"));
+        }
+        return stub;
+    }
+
+    public String baseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    public void stop() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            if (latencyMs > 0) TimeUnit.MILLISECONDS.sleep(latencyMs);
+            String[] path = exchange.getRequestURI().getPath().replaceAll("^/+|/+$", "").split("/");
+            String method = exchange.getRequestMethod();
+            byte[] body = exchange.getRequestBody().readAllBytes();
+            List<ObjectNode> records = resources.get(path[0]);
+            if (records == null || path.length > 3) {
+                respond(exchange, 404, mapper.createObjectNode());
+            } else if (path.length == 1) {
+                if (method.equals("POST")) {
+                    ObjectNode created = body.length == 0 ? mapper.createObjectNode() : (ObjectNode) mapper.readTree(body);
+                    created.put("id", records.size() + 1);
+                    respond(exchange, 201, created);
+                } else {
+                    respond(exchange, 200, filter(records, query(exchange)));
+                }
+            } else {
+                ObjectNode record = find(records, path[1]);
+                if (record == null) {
+                    respond(exchange, 404, mapper.createObjectNode());
+                } else if (path.length == 3) {
+                    respond(exchange, 200, nested(path[0], record, path[2], query(exchange)));
+                } else {
+                    respond(exchange, 200, single(method, record, body));
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            respond(exchange, 500, mapper.createObjectNode().put("error", String.valueOf(e.getMessage())));
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private JsonNode single(String method, ObjectNode record, byte[] body) throws IOException {
+        switch (method) {
+            case "PUT": {
+                ObjectNode replaced = body.length == 0 ? mapper.createObjectNode() : (ObjectNode) mapper.readTree(body);
+                replaced.set("id", record.get("id"));
+                return replaced;
+            }
+            case "PATCH": {
+                ObjectNode merged = record.deepCopy();
+                if (body.length > 0) merged.setAll((ObjectNode) mapper.readTree(body));
+                return merged;
+            }
+            case "DELETE":
+                return mapper.createObjectNode();
+            default:
+                return record;
+        }
+    }
+
+    /**
+     * /users/1/posts is /posts?userId=1; /posts/1/comments is /comments?postId=1.
+     */
+    private JsonNode nested(String parent, ObjectNode record, String child, Map<String, String> query) {
+        List<ObjectNode> children = resources.get(child);
+        if (children == null) return mapper.createArrayNode();
+        query.put(parent.substring(0, parent.length() - 1) + "Id", record.get("id").asText());
+        return filter(children, query);
+    }
+
+    private static ObjectNode find(List<ObjectNode> records, String id) {
+        for (ObjectNode record : records) {
+            if (record.get("id").asText().equals(id)) return record;
+        }
+        return null;
+    }
+
+    private static ArrayNode filter(List<ObjectNode> records, Map<String, String> query) {
+        ArrayNode result = mapper.createArrayNode();
+        for (ObjectNode record : records) {
+            boolean matches = true;
+            for (Map.Entry<String, String> param : query.entrySet()) {
+                JsonNode value = record.get(param.getKey());
+                if (value == null || !value.asText().equals(param.getValue())) {
+                    matches = false;
+                    break;
+                }
+            }
+            if (matches) result.add(record);
+        }
+        return result;
+    }
+
+    private static Map<String, String> query(HttpExchange exchange) {
+        Map<String, String> params = new LinkedHashMap<>();
+        String raw = exchange.getRequestURI().getRawQuery();
+        if (raw == null || raw.isEmpty()) return params;
+        for (String pair : raw.split("&")) {
+            int eq = pair.indexOf('=');
+            String key = URLDecoder.decode(eq < 0 ? pair : pair.substring(0, eq), StandardCharsets.UTF_8);
+            String value = eq < 0 ? "" : URLDecoder.decode(pair.substring(eq + 1), StandardCharsets.UTF_8);
+            params.put(key, value);
+        }
+        return params;
+    }
+
+    private static void respond(HttpExchange exchange, int status, JsonNode json) throws IOException {
+        byte[] body = mapper.writeValueAsBytes(json);
+        exchange.getResponseHeaders().add("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    // ==================== Data ====================
+
+    private static List<ObjectNode> users() {
+        List<ObjectNode> users = new ArrayList<>();
+        for (int id = 1; id <= 10; id++) {
+            ObjectNode user = mapper.createObjectNode()
+                    .put("id", id)
+                    .put("name", id == 1 ? "Leanne Graham" : "User " + id)
+                    .put("username", id == 1 ? "Bret" : "user" + id)
+                    .put("email", id == 1 ? "Sincere@april.biz" : "user" + id + "@test.com")
+                    .put("phone", "1-770-736-80" + (10 + id))
+                    .put("website", "user" + id + ".org");
+            user.putObject("address").put("city", "Gwenborough").put("zipcode", "92998-3874");
+            users.add(user);
+        }
+        return users;
+    }
+
+    private static List<ObjectNode> posts() {
+        List<ObjectNode> posts = new ArrayList<>();
+        for (int id = 1; id <= 100; id++) {
+            posts.add(mapper.createObjectNode()
+                    .put("userId", (id - 1) / 10 + 1)
+                    .put("id", id)
+                    .put("title", "Post " + id)
+                    .put("body", "Body of post " + id));
+        }
+        return posts;
+    }
+
+    private static List<ObjectNode> comments() {
+        List<ObjectNode> comments = new ArrayList<>();
+        for (int id = 1; id <= 500; id++) {
+            comments.add(mapper.createObjectNode()
+                    .put("postId", (id - 1) / 5 + 1)
+                    .put("id", id)
+                    .put("name", "Comment " + id)
+                    .put("email", "commenter" + id + "@test.com")
+                    .put("body", "Body of comment " + id));
+        }
+        return comments;
+    }
+}
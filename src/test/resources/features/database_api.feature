@@ -13,9 +13,13 @@ Feature: API with Database Validation
   #   1. Set up PostgreSQL with test data
   #   2. Update config-qa.properties with your DB credentials
   #   3. Run these tests against your actual API + DB
+  #
+  # Each @db scenario runs in one DB transaction that is rolled back when
+  # it ends, so inserted test data needs no cleanup step (tag a scenario
+  # @db-commit to opt out).
   # =====================================================================
 
-  @regression @db
+  @regression @db @cacheable
   Scenario: Validate API user data against database
     # Step 1: Get user from API
     Given I prepare a GET request to "/users/1"
@@ -29,14 +33,40 @@ Feature: API with Database Validation
     Then if database is available, validate field "name" for user id 1 matches API value
 
   @regression @db
-  Scenario: Create test data in DB, call API, validate, then cleanup
-    # Step 1: Insert test data into DB (skipped if no DB)
+  Scenario: Reconcile the whole user collection against the database
+    # One streaming pass over each side instead of a query per field per user
+    # (gracefully skipped if DB is not available)
+    Given I prepare a GET request to "/users"
+    When I send the request
+    Then the response status code should be 200
+    And if database is available, the response list should match table "users" on "id" for fields "name, email, username"
+
+  @regression @db
+  Scenario: Create test data in DB, call API, validate
+    # Step 1: Insert test data into DB (skipped if no DB; rolled back after the scenario)
     Given I create test data in database for user "test_api_user"
+    Then the database should have 1 users matching "test_api_user"
 
     # Step 2: Call API to retrieve data
     Given I prepare a GET request to "/users/1"
     When I send the request
     Then the response status code should be 200
 
-    # Step 3: Cleanup test data from DB
-    Then I delete test data from database for user "test_api_user"
+  @regression @db
+  Scenario: Seed users in bulk from a table and a CSV file
+    # Batched insert from a DataTable, then a bulk load from CSV (COPY on PostgreSQL)
+    Given I seed table "users" with rows:
+      | username         | name             | email                     |
+      | bulk_seed_tbl_1  | Bulk Table One   | bulk_seed_tbl_1@test.com  |
+      | bulk_seed_tbl_2  | Bulk Table Two   | bulk_seed_tbl_2@test.com  |
+      | bulk_seed_tbl_3  | Bulk Table Three | bulk_seed_tbl_3@test.com  |
+    And I seed table "users" from CSV resource "testdata/users_seed.csv"
+
+  @regression @db
+  Scenario: Undo part of a scenario's DB changes with a savepoint
+    Given I create test data in database for user "savepoint_user_1"
+    And I set database savepoint "after_first_user"
+    And I create test data in database for user "savepoint_user_2"
+    Then the database should have 2 users matching "savepoint_user_%"
+    When I roll back the database to savepoint "after_first_user"
+    Then the database should have 1 users matching "savepoint_user_%"
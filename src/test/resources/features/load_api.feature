@@ -0,0 +1,34 @@
+@load @api
+Feature: API Load Runs - Reusing the functional flows under load
+  As a QA engineer
+  I want to drive the same API requests at a set concurrency or arrival rate
+  So that I can check throughput, error rate and latency without a separate load tool
+
+  # =====================================================================
+  # Not part of @all - run with: mvn test -P load
+  #   Closed model: a fixed number of users repeating the flow back to back
+  #   Open model:   flow iterations started at a constant rate (req/s)
+  # Results per endpoint are attached to the Allure report.
+  # =====================================================================
+
+  Scenario: Closed model - fixed users reading a single post
+    Given I prepare a GET request to "/posts/1"
+    When I run the prepared request with 5 users for 10 seconds
+    Then the load test error rate should be below 1 percent
+    And the load test p95 latency should be below 3000 milliseconds
+
+  Scenario: Open model - constant request rate against the user list
+    Given I prepare a GET request to "/users"
+    When I run the prepared request at 10 requests per second for 10 seconds
+    Then the load test error rate should be below 1 percent
+    And the load test throughput should be at least 8 requests per second
+
+  Scenario: Open model - user, posts and comments flow
+    When I run this flow at 5 iterations per second for 10 seconds:
+      | method | endpoint           | status |
+      | GET    | /users/1           | 200    |
+      | GET    | /users/1/posts     | 200    |
+      | GET    | /posts/1/comments  | 200    |
+    Then the load test error rate should be below 1 percent
+    And the load test p90 latency for "GET /users/1/posts" should be below 3000 milliseconds
+    And the load test p99 latency should be below 5000 milliseconds
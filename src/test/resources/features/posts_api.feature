@@ -59,8 +59,9 @@ Feature: Posts API - End-to-End Test with Cross-Validation
     And the response should contain a list of comments
     And each comment should have fields "id", "postId", "name", "email", "body"
     And all "postId" values in the list should be 1
+    And all "id" values in the list should be between 1 and 5
 
-  @smoke @qa
+  @smoke @qa @cacheable
   Scenario: API-to-API cross validation - user posts consistency
     # First: Get user 1
     Given I prepare a GET request to "/users/1"
@@ -75,3 +76,20 @@ Feature: Posts API - End-to-End Test with Cross-Validation
     When I send the request
     Then the response status code should be 200
     And all "userId" values in the list should be 1
+
+  @regression @qa
+  Scenario: Fetch user, posts and comments concurrently
+    When I send these requests concurrently
+      | name     | method | endpoint           |
+      | user     | GET    | /users/1           |
+      | posts    | GET    | /posts?userId=1    |
+      | comments | GET    | /comments?postId=1 |
+    And I use the response stored as "user"
+    Then the response status code should be 200
+    And the response field "id" should be 1
+    And I use the response stored as "posts"
+    Then the response status code should be 200
+    And all "userId" values in the list should be 1
+    And I use the response stored as "comments"
+    Then the response status code should be 200
+    And all "postId" values in the list should be 1
@@ -99,3 +99,11 @@ Feature: User API - Complete CRUD Operations
     Given I prepare a GET request to "/users/99999"
     When I send the request
     Then the response status code should be 404
+
+  @regression @qa
+  Scenario: Latency percentiles across the whole run stay within budget
+    Given I prepare a GET request to "/users/2"
+    When I send the request
+    Then the response status code should be 200
+    And the p90 response time for "GET /users/{id}" across the run should be below 5000 milliseconds
+    And the p99 response time across the run should be below 10000 milliseconds